@@ -0,0 +1,14 @@
+#!/bin/sh
+set -e
+
+APP_CLASSPATH="BOOT-INF/lib/*"
+MAIN_CLASS="com.cafe.CafeAppApplication"
+CDS_ARCHIVE="${CDS_ARCHIVE:-/app/cds/app.jsa}"
+
+if [ "${CDS_ENABLED:-true}" = "true" ] && [ -f "$CDS_ARCHIVE" ]; then
+  set -- -XX:SharedArchiveFile="$CDS_ARCHIVE" -Xshare:auto -Dspring.aot.enabled=true -cp "$APP_CLASSPATH" "$MAIN_CLASS" "$@"
+else
+  set -- -Dspring.aot.enabled=true -cp "$APP_CLASSPATH" "$MAIN_CLASS" "$@"
+fi
+
+exec java $JAVA_OPTS "$@"
@@ -0,0 +1,33 @@
+#!/bin/sh
+# usage: measure-startup.sh <runs> <command...>
+# 예) measure-startup.sh 5 java -jar build/libs/app-api-0.0.1-SNAPSHOT.jar
+#     measure-startup.sh 5 java -Dspring.aot.enabled=true -jar build/libs/app-api-0.0.1-SNAPSHOT.jar
+#     measure-startup.sh 5 build/native/nativeCompile/app-api
+set -e
+
+RUNS="$1"
+shift
+
+i=1
+while [ "$i" -le "$RUNS" ]; do
+  LOG=$(mktemp)
+  "$@" > "$LOG" 2>&1 &
+  PID=$!
+
+  until grep -q "Started CafeAppApplication" "$LOG"; do
+    if ! kill -0 "$PID" 2>/dev/null; then
+      cat "$LOG"
+      exit 1
+    fi
+    sleep 0.1
+  done
+
+  STARTED=$(grep -o "Started CafeAppApplication in [0-9.]* seconds" "$LOG" | awk '{print $4}')
+  RSS_KB=$(awk '/VmRSS/ {print $2}' "/proc/$PID/status")
+  echo "run=$i startup=${STARTED}s rss=$((RSS_KB / 1024))MB"
+
+  kill "$PID"
+  wait "$PID" 2>/dev/null || true
+  rm -f "$LOG"
+  i=$((i + 1))
+done
@@ -0,0 +1,43 @@
+package com.cafe.config;
+
+import com.cafe.db.datasource.RoutingDataSourceConfig;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class AotConditionVerifier implements BeanFactoryPostProcessor, EnvironmentAware {
+    static final Map<String, Class<?>> CONDITIONAL_CONFIGS = Map.of("cafe.datasource.routing.enabled", RoutingDataSourceConfig.class,
+                                                                    "cafe.threads.virtual.enabled", VirtualThreadConfig.class);
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        if (AotDetector.useGeneratedArtifacts()) {
+            verify(environment, beanFactory);
+        }
+    }
+
+    static void verify(Environment environment, ListableBeanFactory beanFactory) {
+        CONDITIONAL_CONFIGS.forEach((property, configClass) -> {
+            var enabled = environment.getProperty(property, Boolean.class, false);
+            var built = beanFactory.getBeanNamesForType(configClass, false, false).length > 0;
+            if (enabled != built) {
+                throw new IllegalStateException(property + "=" + enabled + " does not match the AOT build, which was processed with "
+                        + property + "=" + built + ". Rebuild the image with the same value or run with -Dspring.aot.enabled=false");
+            }
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package com.cafe.config;
+
+import com.cafe.db.datasource.JdbcExecutionTrackingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+@Configuration(proxyBeanMethods = false)
+public class JdbcMetricsConfig {
+    @Bean
+    public static JdbcRequestMetrics jdbcRequestMetrics() {
+        return new JdbcRequestMetrics();
+    }
+
+    @Bean
+    public FilterRegistrationBean<JdbcRequestMetricsFilter> jdbcRequestMetricsFilter(JdbcRequestMetrics jdbcRequestMetrics,
+                                                                                     MeterRegistry meterRegistry) {
+        var registration = new FilterRegistrationBean<>(new JdbcRequestMetricsFilter(jdbcRequestMetrics, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+
+        return registration;
+    }
+
+    @Bean
+    public static BeanPostProcessor jdbcExecutionTrackingDataSourcePostProcessor(ObjectProvider<JdbcRequestMetrics> jdbcRequestMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                        && !(bean instanceof JdbcExecutionTrackingDataSource)
+                        && !(bean instanceof AbstractRoutingDataSource)
+                        && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                    return new JdbcExecutionTrackingDataSource(dataSource, jdbcRequestMetrics.getObject());
+                }
+
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.cafe.config;
+
+import com.cafe.db.datasource.JdbcExecutionListener;
+
+public class JdbcRequestMetrics implements JdbcExecutionListener {
+    private final ThreadLocal<Stats> currentStats = new ThreadLocal<>();
+
+    public Stats begin() {
+        var stats = new Stats();
+        currentStats.set(stats);
+
+        return stats;
+    }
+
+    public void end() {
+        currentStats.remove();
+    }
+
+    @Override
+    public void afterExecute(long elapsedNanos) {
+        var stats = currentStats.get();
+        if (stats != null) {
+            stats.statementCount++;
+            stats.elapsedNanos += elapsedNanos;
+        }
+    }
+
+    public static class Stats {
+        private int statementCount;
+        private long elapsedNanos;
+
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+    }
+}
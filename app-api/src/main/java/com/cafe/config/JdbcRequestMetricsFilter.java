@@ -0,0 +1,59 @@
+package com.cafe.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public class JdbcRequestMetricsFilter extends OncePerRequestFilter {
+    static final String STATEMENTS_METRIC_NAME = "http.server.requests.jdbc.statements";
+    static final String TIME_METRIC_NAME = "http.server.requests.jdbc.time";
+
+    private final JdbcRequestMetrics jdbcRequestMetrics;
+    private final MeterRegistry meterRegistry;
+
+    public JdbcRequestMetricsFilter(JdbcRequestMetrics jdbcRequestMetrics, MeterRegistry meterRegistry) {
+        this.jdbcRequestMetrics = jdbcRequestMetrics;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        var stats = jdbcRequestMetrics.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            jdbcRequestMetrics.end();
+            record(request, response, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, JdbcRequestMetrics.Stats stats) {
+        var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        var tags = Tags.of("method", request.getMethod(),
+                           "uri", pattern == null ? "UNKNOWN" : pattern.toString(),
+                           "status", String.valueOf(response.getStatus()),
+                           "outcome", Outcome.forStatus(response.getStatus()).name());
+
+        DistributionSummary.builder(STATEMENTS_METRIC_NAME)
+                           .description("JDBC statements executed per request")
+                           .tags(tags)
+                           .register(meterRegistry)
+                           .record(stats.getStatementCount());
+        Timer.builder(TIME_METRIC_NAME)
+             .description("Time spent executing JDBC statements per request")
+             .tags(tags)
+             .register(meterRegistry)
+             .record(stats.getElapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,26 @@
+package com.cafe.config;
+
+import com.cafe.db.datasource.RoutingDataSourceProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "cafe.datasource.routing", name = "enabled", havingValue = "true")
+public class ReadYourWritesConfig {
+    @Bean
+    public RequestReadYourWritesTracker requestReadYourWritesTracker() {
+        return new RequestReadYourWritesTracker();
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(RequestReadYourWritesTracker requestReadYourWritesTracker,
+                                                                             RoutingDataSourceProperties properties) {
+        var registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(requestReadYourWritesTracker, properties.readYourWritesWindow()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 4);
+
+        return registration;
+    }
+}
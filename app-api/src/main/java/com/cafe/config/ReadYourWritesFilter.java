@@ -0,0 +1,64 @@
+package com.cafe.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    static final String COOKIE_NAME = "cafe-last-write";
+
+    private final RequestReadYourWritesTracker readYourWritesTracker;
+    private final Duration readYourWritesWindow;
+
+    public ReadYourWritesFilter(RequestReadYourWritesTracker readYourWritesTracker, Duration readYourWritesWindow) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        readYourWritesTracker.begin(lastWriteMillis(request), writeMillis -> writeCookie(response, writeMillis));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWritesTracker.end();
+        }
+    }
+
+    private long lastWriteMillis(HttpServletRequest request) {
+        var cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        if (cookie == null) {
+            return 0L;
+        }
+
+        try {
+            var lastWriteMillis = Long.parseLong(cookie.getValue());
+
+            return lastWriteMillis > System.currentTimeMillis() + readYourWritesWindow.toMillis() ? 0L : lastWriteMillis;
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private void writeCookie(HttpServletResponse response, long writeMillis) {
+        if (response.isCommitted()) {
+            return;
+        }
+
+        var cookie = ResponseCookie.from(COOKIE_NAME, String.valueOf(writeMillis))
+                                   .path("/")
+                                   .maxAge(Duration.ofSeconds(Math.max(1, (readYourWritesWindow.toMillis() + 999) / 1000)))
+                                   .httpOnly(true)
+                                   .sameSite("Lax")
+                                   .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
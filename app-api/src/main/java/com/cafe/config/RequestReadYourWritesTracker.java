@@ -0,0 +1,43 @@
+package com.cafe.config;
+
+import com.cafe.db.datasource.ReadYourWritesTracker;
+
+import java.util.function.LongConsumer;
+
+public class RequestReadYourWritesTracker implements ReadYourWritesTracker {
+    private final ThreadLocal<ClientWrites> currentClient = new ThreadLocal<>();
+
+    public void begin(long lastWriteMillis, LongConsumer writeListener) {
+        currentClient.set(new ClientWrites(lastWriteMillis, writeListener));
+    }
+
+    public void end() {
+        currentClient.remove();
+    }
+
+    @Override
+    public long lastWriteMillis() {
+        var client = currentClient.get();
+
+        return client == null ? 0L : client.lastWriteMillis;
+    }
+
+    @Override
+    public void recordWrite(long writeMillis) {
+        var client = currentClient.get();
+        if (client != null) {
+            client.lastWriteMillis = writeMillis;
+            client.writeListener.accept(writeMillis);
+        }
+    }
+
+    private static class ClientWrites {
+        private final LongConsumer writeListener;
+        private long lastWriteMillis;
+
+        private ClientWrites(long lastWriteMillis, LongConsumer writeListener) {
+            this.lastWriteMillis = lastWriteMillis;
+            this.writeListener = writeListener;
+        }
+    }
+}
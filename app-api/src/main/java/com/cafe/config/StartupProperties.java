@@ -0,0 +1,8 @@
+package com.cafe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("cafe.startup")
+public record StartupProperties(@DefaultValue("false") boolean trainingRun) {
+}
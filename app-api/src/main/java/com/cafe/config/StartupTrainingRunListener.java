@@ -0,0 +1,20 @@
+package com.cafe.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class StartupTrainingRunListener implements ApplicationListener<ApplicationStartedEvent> {
+    private final StartupProperties properties;
+
+    @Override
+    public void onApplicationEvent(ApplicationStartedEvent event) {
+        if (properties.trainingRun()) {
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+}
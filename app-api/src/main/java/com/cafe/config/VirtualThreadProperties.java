@@ -0,0 +1,12 @@
+package com.cafe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("cafe.threads.virtual")
+public record VirtualThreadProperties(@DefaultValue("false") boolean enabled,
+                                      @DefaultValue("10") int maxConcurrentConnections,
+                                      @DefaultValue("30s") Duration connectionAcquireTimeout) {
+}
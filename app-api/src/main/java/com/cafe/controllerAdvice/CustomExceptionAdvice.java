@@ -1,16 +1,37 @@
 package com.cafe.controllerAdvice;
 
 import com.cafe.dto.ApiResponse;
+import com.cafe.enums.ErrorCode;
 import com.cafe.exception.CustomException;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+
+import java.util.EnumMap;
+import java.util.Map;
 
 @RestControllerAdvice
 public class CustomExceptionAdvice {
+    private final Map<ErrorCode, ResponseEntity<ApiResponse<?>>> errorResponses = new EnumMap<>(ErrorCode.class);
+
+    public CustomExceptionAdvice() {
+        for (var errorCode : ErrorCode.values()) {
+            errorResponses.put(errorCode, ResponseEntity.status(errorCode.getStatus())
+                                                         .body(ApiResponse.errorResponse(errorCode.getMessage(), errorCode.getCode())));
+        }
+    }
+
     @ExceptionHandler({CustomException.class})
     public ResponseEntity<ApiResponse<?>> handleMethodArgumentNotValidException(
-            CustomException ex) {
+            CustomException ex, HttpServletRequest request) {
+        ServerHttpObservationFilter.findObservationContext(request)
+                                   .ifPresent(context -> context.setError(ex));
+
+        if (ex.getErrorCode() != null) {
+            return errorResponses.get(ex.getErrorCode());
+        }
 
         var apiResponse = ApiResponse.createErrorResponse(ex.getMessage(), ex.getCode());
 
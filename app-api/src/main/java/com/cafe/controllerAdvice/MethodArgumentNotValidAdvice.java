@@ -2,16 +2,20 @@ package com.cafe.controllerAdvice;
 
 import com.cafe.dto.ApiResponse;
 import com.cafe.enums.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.filter.ServerHttpObservationFilter;
 
 @RestControllerAdvice
 public class MethodArgumentNotValidAdvice {
     @ExceptionHandler({MethodArgumentNotValidException.class})
     public ResponseEntity<ApiResponse<?>> handleMethodArgumentNotValidException(
-            MethodArgumentNotValidException ex) {
+            MethodArgumentNotValidException ex, HttpServletRequest request) {
+        ServerHttpObservationFilter.findObservationContext(request)
+                                   .ifPresent(context -> context.setError(ex));
 
         var apiResponse = ApiResponse.createErrorResponse(ErrorCode.BAD_REQUEST.getMessage(), ErrorCode.BAD_REQUEST.getCode());
 
@@ -0,0 +1,72 @@
+package com.cafe.limit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger limit;
+    private final long latencyThresholdNanos;
+    private final IntUnaryOperator increase;
+    private final IntUnaryOperator decrease;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        var minLimit = properties.minLimit();
+        var maxLimit = properties.maxLimit();
+        var backoffRatio = properties.backoffRatio();
+
+        this.limit = new AtomicInteger(properties.initialLimit());
+        this.latencyThresholdNanos = properties.latencyThreshold().toNanos();
+        this.increase = current -> Math.min(maxLimit, current + 1);
+        this.decrease = current -> Math.max(minLimit, (int) (current * backoffRatio));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            var current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos) {
+        var current = inFlight.getAndDecrement();
+
+        if (latencyNanos > latencyThresholdNanos) {
+            limit.updateAndGet(decrease);
+        } else if (current * 2 >= limit.get()) {
+            limit.updateAndGet(increase);
+        }
+    }
+
+    public void releaseUnmeasured() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cafe.limit.concurrency.limit", limit, AtomicInteger::get)
+             .description("Current adaptive concurrency limit")
+             .register(registry);
+        Gauge.builder("cafe.limit.concurrency.in-flight", inFlight, AtomicInteger::get)
+             .description("Requests currently admitted by the concurrency limiter")
+             .register(registry);
+    }
+}
@@ -0,0 +1,52 @@
+package com.cafe.limit;
+
+import com.cafe.enums.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Set<String> unmeasuredPaths;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final Counter rejectedCounter;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter concurrencyLimiter, ConcurrencyLimitProperties properties,
+                                  ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.unmeasuredPaths = properties.unmeasuredPaths();
+        this.errorResponseWriter = new ErrorResponseWriter(ErrorCode.SERVICE_UNAVAILABLE, objectMapper);
+        this.rejectedCounter = Counter.builder(RateLimitFilter.REJECTED_METRIC_NAME)
+                                      .description("Requests rejected by the rate and concurrency limiters")
+                                      .tag("reason", "concurrency")
+                                      .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (!concurrencyLimiter.tryAcquire()) {
+            rejectedCounter.increment();
+            errorResponseWriter.write(response);
+            return;
+        }
+
+        var startNanos = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted() || unmeasuredPaths.contains(request.getRequestURI())) {
+                concurrencyLimiter.releaseUnmeasured();
+            } else {
+                concurrencyLimiter.release(System.nanoTime() - startNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.cafe.limit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Set;
+
+@ConfigurationProperties("cafe.limit.concurrency")
+public record ConcurrencyLimitProperties(@DefaultValue("false") boolean enabled,
+                                         @DefaultValue("20") int initialLimit,
+                                         @DefaultValue("4") int minLimit,
+                                         @DefaultValue("200") int maxLimit,
+                                         @DefaultValue("500ms") Duration latencyThreshold,
+                                         @DefaultValue("0.9") double backoffRatio,
+                                         @DefaultValue("/api/v1/menu/snapshot") Set<String> unmeasuredPaths) {
+}
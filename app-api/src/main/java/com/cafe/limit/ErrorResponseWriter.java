@@ -0,0 +1,31 @@
+package com.cafe.limit;
+
+import com.cafe.dto.ApiResponse;
+import com.cafe.enums.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+
+final class ErrorResponseWriter {
+    private final int status;
+    private final byte[] body;
+
+    ErrorResponseWriter(ErrorCode errorCode, ObjectMapper objectMapper) {
+        this.status = errorCode.getStatus();
+        try {
+            this.body = objectMapper.writeValueAsBytes(ApiResponse.errorResponse(errorCode.getMessage(), errorCode.getCode()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    void write(HttpServletResponse response) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,49 @@
+package com.cafe.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration(proxyBeanMethods = false)
+public class LimitConfig {
+    private static final String API_URL_PATTERN = "/api/*";
+
+    @Bean
+    public TokenBucketRateLimiter tokenBucketRateLimiter(RateLimitProperties properties) {
+        return new TokenBucketRateLimiter(properties);
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        return new AdaptiveConcurrencyLimiter(properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(TokenBucketRateLimiter tokenBucketRateLimiter,
+                                                                   RateLimitProperties properties,
+                                                                   ObjectMapper objectMapper,
+                                                                   MeterRegistry meterRegistry) {
+        var registration = new FilterRegistrationBean<>(new RateLimitFilter(tokenBucketRateLimiter, properties, objectMapper, meterRegistry));
+        registration.setEnabled(properties.enabled());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        registration.addUrlPatterns(API_URL_PATTERN);
+
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter,
+                                                                                 ConcurrencyLimitProperties properties,
+                                                                                 ObjectMapper objectMapper,
+                                                                                 MeterRegistry meterRegistry) {
+        var registration = new FilterRegistrationBean<>(new ConcurrencyLimitFilter(adaptiveConcurrencyLimiter, properties, objectMapper, meterRegistry));
+        registration.setEnabled(properties.enabled());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+        registration.addUrlPatterns(API_URL_PATTERN);
+
+        return registration;
+    }
+}
@@ -0,0 +1,104 @@
+package com.cafe.limit;
+
+import com.cafe.enums.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+public class RateLimitFilter extends OncePerRequestFilter {
+    static final String REJECTED_METRIC_NAME = "cafe.limit.rejected";
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final Pattern trustedProxies;
+    private final String clientKeyHeader;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final Counter rejectedCounter;
+
+    public RateLimitFilter(TokenBucketRateLimiter rateLimiter, RateLimitProperties properties,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.trustedProxies = Pattern.compile(properties.trustedProxies());
+        this.clientKeyHeader = properties.clientKeyHeader();
+        this.errorResponseWriter = new ErrorResponseWriter(ErrorCode.TOO_MANY_REQUESTS, objectMapper);
+        this.rejectedCounter = Counter.builder(REJECTED_METRIC_NAME)
+                                      .description("Requests rejected by the rate and concurrency limiters")
+                                      .tag("reason", "rate")
+                                      .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        var waitNanos = rateLimiter.tryAcquire(clientKey(request), isWrite(request.getMethod()));
+        if (waitNanos > 0) {
+            rejectedCounter.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(TimeUnit.NANOSECONDS.toSeconds(waitNanos - 1) + 1));
+            errorResponseWriter.write(response);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        if (request.getUserPrincipal() != null) {
+            return "principal:" + request.getUserPrincipal().getName();
+        }
+
+        var remoteAddr = request.getRemoteAddr();
+        if (!isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        if (!clientKeyHeader.isEmpty()) {
+            var clientKey = request.getHeader(clientKeyHeader);
+            if (clientKey != null && !clientKey.isBlank()) {
+                return "client:" + clientKey.trim();
+            }
+        }
+
+        return forwardedClientAddr(request, remoteAddr);
+    }
+
+    private String forwardedClientAddr(HttpServletRequest request, String remoteAddr) {
+        var clientAddr = remoteAddr;
+        var forwardedFor = request.getHeaders(FORWARDED_FOR_HEADER);
+        var hops = new ArrayList<String>();
+        while (forwardedFor.hasMoreElements()) {
+            for (var hop : forwardedFor.nextElement().split(",")) {
+                hops.add(hop.trim());
+            }
+        }
+
+        for (int i = hops.size() - 1; i >= 0; i--) {
+            clientAddr = hops.get(i);
+            if (!isTrustedProxy(clientAddr)) {
+                break;
+            }
+        }
+
+        return clientAddr;
+    }
+
+    private boolean isTrustedProxy(String addr) {
+        return trustedProxies.matcher(addr).matches();
+    }
+
+    private static boolean isWrite(String method) {
+        return !HttpMethod.GET.matches(method)
+                && !HttpMethod.HEAD.matches(method)
+                && !HttpMethod.OPTIONS.matches(method);
+    }
+}
@@ -0,0 +1,18 @@
+package com.cafe.limit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("cafe.limit.rate")
+public record RateLimitProperties(@DefaultValue("false") boolean enabled,
+                                  @DefaultValue("") String trustedProxies,
+                                  @DefaultValue("") String clientKeyHeader,
+                                  @DefaultValue("50") int readPermitsPerSecond,
+                                  @DefaultValue("100") int readBurst,
+                                  @DefaultValue("5") int writePermitsPerSecond,
+                                  @DefaultValue("10") int writeBurst,
+                                  @DefaultValue("100000") long maximumClients,
+                                  @DefaultValue("10m") Duration idleTimeout) {
+}
@@ -0,0 +1,64 @@
+package com.cafe.limit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+public class TokenBucketRateLimiter {
+    private final Bucket readBucket;
+    private final Bucket writeBucket;
+    private final LongSupplier nanoClock;
+    private final Function<String, AtomicLong> newBucketState;
+
+    public TokenBucketRateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(RateLimitProperties properties, LongSupplier nanoClock) {
+        this.readBucket = new Bucket(properties.readPermitsPerSecond(), properties.readBurst(), properties);
+        this.writeBucket = new Bucket(properties.writePermitsPerSecond(), properties.writeBurst(), properties);
+        this.nanoClock = nanoClock;
+        this.newBucketState = clientKey -> new AtomicLong(nanoClock.getAsLong());
+    }
+
+    public long tryAcquire(String clientKey, boolean write) {
+        var bucket = write ? writeBucket : readBucket;
+        var state = bucket.states.get(clientKey, newBucketState);
+
+        return bucket.tryAcquire(state, nanoClock.getAsLong());
+    }
+
+    private static final class Bucket {
+        private final long intervalNanos;
+        private final long capacityNanos;
+        private final Cache<String, AtomicLong> states;
+
+        private Bucket(int permitsPerSecond, int burst, RateLimitProperties properties) {
+            this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+            this.capacityNanos = intervalNanos * burst;
+            this.states = Caffeine.newBuilder()
+                                  .maximumSize(properties.maximumClients())
+                                  .expireAfterAccess(properties.idleTimeout())
+                                  .build();
+        }
+
+        private long tryAcquire(AtomicLong state, long now) {
+            while (true) {
+                var theoreticalArrival = state.get();
+                var next = Math.max(theoreticalArrival, now) + intervalNanos;
+                var waitNanos = next - now - capacityNanos;
+                if (waitNanos > 0) {
+                    return waitNanos;
+                }
+
+                if (state.compareAndSet(theoreticalArrival, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
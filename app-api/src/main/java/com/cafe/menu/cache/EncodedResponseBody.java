@@ -0,0 +1,30 @@
+package com.cafe.menu.cache;
+
+public record EncodedResponseBody(byte[] body, byte[] gzipBody) {
+    private static final String GZIP = "gzip";
+    private static final String ANY = "*";
+
+    public boolean isGzipAvailable() {
+        return gzipBody != null;
+    }
+
+    public boolean acceptsGzip(String acceptEncoding) {
+        if (!isGzipAvailable() || acceptEncoding == null) {
+            return false;
+        }
+
+        for (var coding : acceptEncoding.split(",")) {
+            var parameters = coding.split(";");
+            var name = parameters[0].trim();
+            if (GZIP.equalsIgnoreCase(name) || ANY.equals(name)) {
+                return parameters.length == 1 || !isZeroQuality(parameters[1].trim());
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isZeroQuality(String parameter) {
+        return parameter.matches("[qQ]\\s*=\\s*0(\\.0{0,3})?");
+    }
+}
@@ -0,0 +1,169 @@
+package com.cafe.menu.cache;
+
+import com.cafe.exception.ServiceUnavailableException;
+import com.cafe.menu.controller.dto.GetMenuResponse;
+import com.cafe.menu.event.MenuChangedEvent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+@Component
+public class MenuCache implements MeterBinder {
+    private static final String CACHE_NAME = "menu";
+
+    private final AsyncCache<Long, Optional<GetMenuResponse>> cache;
+    private final long loadTimeoutNanos;
+
+    public MenuCache(MenuCacheProperties properties) {
+        this.cache = newCache(properties);
+        this.loadTimeoutNanos = properties.loadTimeout().toNanos();
+    }
+
+    public Optional<GetMenuResponse> get(Long menuId, Function<Long, Optional<GetMenuResponse>> loader) {
+        return get(cache, menuId, loader);
+    }
+
+    public Map<Long, Optional<GetMenuResponse>> getAll(Iterable<Long> menuIds,
+                                                       Function<Set<? extends Long>, Map<Long, Optional<GetMenuResponse>>> loader) {
+        var futures = new HashMap<Long, CompletableFuture<Optional<GetMenuResponse>>>();
+        var claimed = new HashMap<Long, LoadingFuture<Optional<GetMenuResponse>>>();
+        for (var menuId : menuIds) {
+            if (!futures.containsKey(menuId)) {
+                var future = cache.get(menuId, LoadingFuture::create);
+                futures.put(menuId, future);
+                if (future instanceof LoadingFuture<Optional<GetMenuResponse>> loading && loading.claim()) {
+                    claimed.put(menuId, loading);
+                }
+            }
+        }
+
+        if (!claimed.isEmpty()) {
+            try {
+                var loaded = loader.apply(claimed.keySet());
+                claimed.forEach((menuId, loading) -> loading.complete(loaded.getOrDefault(menuId, Optional.empty())));
+            } catch (RuntimeException | Error e) {
+                claimed.values().forEach(loading -> loading.completeExceptionally(e));
+                throw e;
+            }
+        }
+
+        var result = new HashMap<Long, Optional<GetMenuResponse>>();
+        futures.forEach((menuId, future) -> result.put(menuId, await(future)));
+
+        return result;
+    }
+
+    public void invalidate(Long menuId) {
+        cache.synchronous().invalidate(menuId);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        invalidate(event.menuId());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    private <V> V get(AsyncCache<Long, V> asyncCache, Long key, Function<Long, V> loader) {
+        var future = asyncCache.get(key, LoadingFuture::create);
+        if (!(future instanceof LoadingFuture<V> loading) || !loading.claim()) {
+            return await(future);
+        }
+
+        try {
+            var value = loader.apply(key);
+            loading.complete(value);
+
+            return value;
+        } catch (RuntimeException | Error e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.get(loadTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw ServiceUnavailableException.of();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ServiceUnavailableException.of();
+        }
+    }
+
+    private static <V> AsyncCache<Long, Optional<V>> newCache(MenuCacheProperties properties) {
+        return Caffeine.newBuilder()
+                       .maximumSize(properties.maximumSize())
+                       .expireAfter(new MenuExpiry<V>(properties.expireAfterWrite().toNanos(),
+                                                      properties.negativeExpireAfterWrite().toNanos()))
+                       .recordStats()
+                       .buildAsync();
+    }
+
+    private static final class LoadingFuture<V> extends CompletableFuture<V> {
+        private Thread loader = Thread.currentThread();
+
+        private static <K, V> LoadingFuture<V> create(K key, Executor executor) {
+            return new LoadingFuture<>();
+        }
+
+        private boolean claim() {
+            if (loader != Thread.currentThread()) {
+                return false;
+            }
+
+            loader = null;
+            return true;
+        }
+    }
+
+    private record MenuExpiry<V>(long expireAfterWriteNanos,
+                                 long negativeExpireAfterWriteNanos) implements Expiry<Long, Optional<V>> {
+        @Override
+        public long expireAfterCreate(Long key, Optional<V> value, long currentTime) {
+            return value.isPresent() ? expireAfterWriteNanos : negativeExpireAfterWriteNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, Optional<V> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, Optional<V> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
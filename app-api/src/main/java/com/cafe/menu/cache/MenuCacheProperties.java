@@ -0,0 +1,14 @@
+package com.cafe.menu.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("cafe.menu.cache")
+public record MenuCacheProperties(@DefaultValue("10000") long maximumSize,
+                                  @DefaultValue("10m") Duration expireAfterWrite,
+                                  @DefaultValue("30s") Duration negativeExpireAfterWrite,
+                                  @DefaultValue("3s") Duration loadTimeout,
+                                  @DefaultValue("1000") long pageMaximumSize) {
+}
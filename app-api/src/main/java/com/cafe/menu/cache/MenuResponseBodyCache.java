@@ -0,0 +1,104 @@
+package com.cafe.menu.cache;
+
+import com.cafe.dto.ApiResponse;
+import com.cafe.menu.controller.dto.GetMenuPageResponse;
+import com.cafe.menu.controller.dto.GetMenuResponse;
+import com.cafe.menu.event.MenuChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+import java.util.function.Function;
+
+@Component
+public class MenuResponseBodyCache {
+    private final Cache<Long, EncodedMenu> cache;
+    private final Cache<String, EncodedMenuPage> pageCache;
+    private final ObjectMapper objectMapper;
+    private final long gzipMinSize;
+
+    public MenuResponseBodyCache(MenuCacheProperties properties, ServerProperties serverProperties, ObjectMapper objectMapper) {
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(properties.maximumSize())
+                             .build();
+        this.pageCache = Caffeine.newBuilder()
+                                 .maximumSize(properties.pageMaximumSize())
+                                 .expireAfterWrite(properties.expireAfterWrite())
+                                 .build();
+        this.objectMapper = objectMapper;
+
+        var compression = serverProperties.getCompression();
+        this.gzipMinSize = compression.getEnabled() ? compression.getMinResponseSize().toBytes() : Long.MAX_VALUE;
+    }
+
+    public EncodedResponseBody getBody(GetMenuResponse menu, Function<GetMenuResponse, ApiResponse<GetMenuResponse>> responseFactory) {
+        var encoded = cache.getIfPresent(menu.id());
+        if (encoded != null && encoded.menu().equals(menu)) {
+            return encoded.body();
+        }
+
+        var body = encode(responseFactory.apply(menu));
+        cache.put(menu.id(), new EncodedMenu(menu, body));
+
+        return body;
+    }
+
+    public EncodedResponseBody getPageBody(String etag,
+                                           GetMenuPageResponse page,
+                                           Function<GetMenuPageResponse, ApiResponse<GetMenuPageResponse>> responseFactory) {
+        var encoded = pageCache.getIfPresent(etag);
+        if (encoded != null && encoded.page().equals(page)) {
+            return encoded.body();
+        }
+
+        var body = encode(responseFactory.apply(page));
+        pageCache.put(etag, new EncodedMenuPage(page, body));
+
+        return body;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        cache.invalidate(event.menuId());
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        pageCache.invalidateAll();
+    }
+
+    private EncodedResponseBody encode(ApiResponse<?> response) {
+        try {
+            var body = objectMapper.writeValueAsBytes(response);
+
+            return new EncodedResponseBody(body, body.length >= gzipMinSize ? gzip(body) : null);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        var outputStream = new ByteArrayOutputStream(body.length / 4);
+        try (var gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    private record EncodedMenu(GetMenuResponse menu, EncodedResponseBody body) {
+    }
+
+    private record EncodedMenuPage(GetMenuPageResponse page, EncodedResponseBody body) {
+    }
+}
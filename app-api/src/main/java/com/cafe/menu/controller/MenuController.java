@@ -1,31 +1,71 @@
 package com.cafe.menu.controller;
 
 import com.cafe.dto.ApiResponse;
+import com.cafe.enums.ErrorCode;
+import com.cafe.exception.NotFoundException;
+import com.cafe.menu.cache.EncodedResponseBody;
+import com.cafe.menu.cache.MenuResponseBodyCache;
+import com.cafe.menu.controller.dto.BulkUpsertMenuRequest;
+import com.cafe.menu.controller.dto.BulkUpsertMenuResponse;
 import com.cafe.menu.controller.dto.CreateMenuRequest;
 import com.cafe.menu.controller.dto.CreateMenuResponse;
 import com.cafe.menu.controller.dto.DeleteMenuResponse;
+import com.cafe.menu.controller.dto.DeleteMenusResponse;
+import com.cafe.menu.controller.dto.GetMenuPageResponse;
 import com.cafe.menu.controller.dto.GetMenuResponse;
+import com.cafe.menu.controller.dto.GetMenusResponse;
+import com.cafe.menu.controller.dto.MenuPriceUpdateResponse;
+import com.cafe.menu.controller.dto.MenuSnapshotImportResponse;
+import com.cafe.menu.controller.dto.UpdateMenuPriceRequest;
 import com.cafe.menu.controller.dto.UpdateMenuRequest;
 import com.cafe.menu.controller.dto.UpdateMenuResponse;
+import com.cafe.menu.outbox.SseMenuChangePublisher;
+import com.cafe.menu.price.MenuPriceUpdateQueue;
 import com.cafe.menu.service.MenuReadService;
+import com.cafe.menu.service.MenuSearchService;
+import com.cafe.menu.service.MenuValidator;
 import com.cafe.menu.service.MenuWriteService;
+import com.cafe.menu.snapshot.MenuSnapshotService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
 public class MenuController {
+    private static final List<MediaType> PRODUCIBLE_MEDIA_TYPES = List.of(MediaType.APPLICATION_JSON,
+                                                                          MediaType.APPLICATION_CBOR,
+                                                                          new MediaType("application", "x-jackson-smile"));
+
     private final MenuWriteService menuWriteService;
     private final MenuReadService menuReadService;
+    private final MenuSearchService menuSearchService;
+    private final MenuResponseBodyCache menuResponseBodyCache;
+    private final SseMenuChangePublisher sseMenuChangePublisher;
+    private final MenuPriceUpdateQueue menuPriceUpdateQueue;
+    private final MenuSnapshotService menuSnapshotService;
 
     @PostMapping("/api/v1/menu")
     public ResponseEntity<ApiResponse<CreateMenuResponse>> createMenu(@Valid @RequestBody CreateMenuRequest request) {
@@ -35,22 +75,119 @@ public class MenuController {
                              .body(ApiResponse.success("메뉴가 생성되었습니다.", new CreateMenuResponse(result)));
     }
 
+    @PostMapping("/api/v1/menu/bulk")
+    public ResponseEntity<ApiResponse<BulkUpsertMenuResponse>> upsertMenus(@Valid @RequestBody BulkUpsertMenuRequest request) {
+        var result = menuWriteService.upsertMenus(request.menus(), request.upsert());
+
+        return ResponseEntity.status(HttpStatus.OK)
+                             .body(ApiResponse.success("메뉴가 일괄 저장되었습니다.", result));
+    }
+
+    @GetMapping(value = "/api/v1/menu/snapshot", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportMenuSnapshot() {
+        return ResponseEntity.status(HttpStatus.OK)
+                             .contentType(MediaType.APPLICATION_NDJSON)
+                             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"menus.ndjson\"")
+                             .body(menuSnapshotService::exportMenus);
+    }
+
+    @PostMapping(value = "/api/v1/menu/snapshot", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ApiResponse<MenuSnapshotImportResponse>> importMenuSnapshot(@RequestParam(value = "upsert", defaultValue = "false") boolean upsert,
+                                                                                      InputStream inputStream) throws IOException {
+        var result = menuSnapshotService.importMenus(inputStream, upsert);
+        if (result.failedLine() != null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                                 .body(ApiResponse.errorResponse(result.failedLine() + "번째 줄의 형식이 잘못되어 이전 줄까지만 가져왔습니다.",
+                                                                 ErrorCode.BAD_REQUEST.getCode(), result));
+        }
+
+        return ResponseEntity.status(HttpStatus.OK)
+                             .body(ApiResponse.success("메뉴 스냅샷을 가져왔습니다.", result));
+    }
+
     @PatchMapping("/api/v1/menu")
     public ResponseEntity<ApiResponse<UpdateMenuResponse>> updateMenu(@Valid @RequestBody UpdateMenuRequest request) {
-        var result = menuWriteService.updateMenu(request.id(), request.name(), request.price());
+        var result = menuWriteService.updateMenu(request.id(), request.name(), request.price(), request.version());
 
         return ResponseEntity.status(HttpStatus.OK)
                              .body(ApiResponse.success("메뉴가 수정되었습니다.", new UpdateMenuResponse(result)));
     }
 
+    @PostMapping("/api/v1/menu/price-updates")
+    public ResponseEntity<ApiResponse<MenuPriceUpdateResponse>> submitPriceUpdate(@Valid @RequestBody UpdateMenuPriceRequest request) {
+        var result = menuPriceUpdateQueue.submit(request.id(), request.price());
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                             .header(HttpHeaders.LOCATION, "/api/v1/menu/price-updates/" + result.trackingId())
+                             .body(ApiResponse.success("메뉴 가격 변경이 접수되었습니다.", result));
+    }
+
+    @GetMapping("/api/v1/menu/price-updates/{trackingId}")
+    public ResponseEntity<ApiResponse<MenuPriceUpdateResponse>> getPriceUpdate(@PathVariable("trackingId") String trackingId) {
+        var result = menuPriceUpdateQueue.getStatus(trackingId)
+                                         .orElseThrow(NotFoundException::of);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                             .body(ApiResponse.success("메뉴 가격 변경 상태가 조회되었습니다.", result));
+    }
+
     @GetMapping("/api/v1/menu/{menuId}")
-    public ResponseEntity<ApiResponse<GetMenuResponse>> getMenu(@PathVariable("menuId") Long menuId) {
+    public ResponseEntity<?> getMenu(@PathVariable("menuId") Long menuId, WebRequest webRequest) {
         var result = menuReadService.getMenuById(menuId);
+        var validator = MenuValidator.of(result);
+        if (!prefersJson(webRequest)) {
+            return negotiatedResponse(ApiResponse.success("메뉴가 조회되었습니다.", result), validator, webRequest);
+        }
+
+        var body = menuResponseBodyCache.getBody(result, menu -> ApiResponse.success("메뉴가 조회되었습니다.", menu));
+
+        return encodedResponse(body, validator, webRequest);
+    }
+
+    @GetMapping(value = "/api/v1/menu", params = "ids")
+    public ResponseEntity<ApiResponse<GetMenusResponse>> getMenus(@RequestParam("ids") List<Long> ids) {
+        var result = menuReadService.getMenusByIds(ids);
 
         return ResponseEntity.status(HttpStatus.OK)
                              .body(ApiResponse.success("메뉴가 조회되었습니다.", result));
     }
 
+    @GetMapping("/api/v1/menus")
+    public ResponseEntity<?> getMenuPage(@RequestParam(value = "cursor", required = false) String cursor,
+                                         @RequestParam(value = "size", defaultValue = "20") int size,
+                                         @RequestParam(value = "minPrice", required = false) Integer minPrice,
+                                         @RequestParam(value = "maxPrice", required = false) Integer maxPrice,
+                                         @RequestParam(value = "sort", defaultValue = "id") String sort,
+                                         @RequestParam(value = "direction", defaultValue = "asc") String direction,
+                                         WebRequest webRequest) {
+        var result = menuReadService.getMenus(cursor, size, minPrice, maxPrice, sort, direction);
+        var validator = result.validator();
+        if (!prefersJson(webRequest)) {
+            return negotiatedResponse(ApiResponse.success("메뉴 목록이 조회되었습니다.", result.response()), validator, webRequest);
+        }
+
+        var body = menuResponseBodyCache.getPageBody(validator.etag(), result.response(),
+                                                     page -> ApiResponse.success("메뉴 목록이 조회되었습니다.", page));
+
+        return encodedResponse(body, validator, webRequest);
+    }
+
+    @GetMapping("/api/v1/menus/search")
+    public ResponseEntity<ApiResponse<GetMenuPageResponse>> searchMenus(@RequestParam("q") String query,
+                                                                        @RequestParam(value = "prefix", defaultValue = "false") boolean prefix,
+                                                                        @RequestParam(value = "cursor", required = false) String cursor,
+                                                                        @RequestParam(value = "size", defaultValue = "20") int size) {
+        var result = menuSearchService.searchMenus(query, prefix, cursor, size);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                             .body(ApiResponse.success("메뉴가 검색되었습니다.", result));
+    }
+
+    @GetMapping(value = "/api/v1/menu/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeMenuChanges(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return sseMenuChangePublisher.subscribe(lastEventId);
+    }
+
     @DeleteMapping("/api/v1/menu/{menuId}")
     public ResponseEntity<ApiResponse<DeleteMenuResponse>> deleteMenu(@PathVariable("menuId") Long menuId) {
         var result = menuWriteService.deleteMenu(menuId);
@@ -58,4 +195,82 @@ public class MenuController {
         return ResponseEntity.status(HttpStatus.OK)
                              .body(ApiResponse.success("메뉴가 삭제되었습니다.", new DeleteMenuResponse(result)));
     }
+
+    @DeleteMapping(value = "/api/v1/menu", params = "ids")
+    public ResponseEntity<ApiResponse<DeleteMenusResponse>> deleteMenus(@RequestParam("ids") List<Long> ids) {
+        var result = menuWriteService.deleteMenus(ids);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                             .body(ApiResponse.success("메뉴가 삭제되었습니다.", result));
+    }
+
+    private ResponseEntity<byte[]> encodedResponse(EncodedResponseBody body, MenuValidator validator, WebRequest webRequest) {
+        var gzip = body.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        var variant = gzip ? validator.variant("gzip") : validator;
+        if (webRequest.checkNotModified(variant.etag(), variant.lastModified())) {
+            return null;
+        }
+
+        var builder = ResponseEntity.status(HttpStatus.OK)
+                                    .contentType(MediaType.APPLICATION_JSON);
+        if (!body.isGzipAvailable()) {
+            return builder.varyBy(HttpHeaders.ACCEPT)
+                          .body(body.body());
+        }
+
+        builder.varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (!gzip) {
+            return builder.body(body.body());
+        }
+
+        return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                      .body(body.gzipBody());
+    }
+
+    private ResponseEntity<?> negotiatedResponse(ApiResponse<?> response, MenuValidator validator, WebRequest webRequest) {
+        var builder = ResponseEntity.status(HttpStatus.OK)
+                                    .varyBy(HttpHeaders.ACCEPT);
+        var mediaType = negotiatedMediaType(webRequest);
+        if (mediaType.isEmpty()) {
+            return builder.body(response);
+        }
+
+        var variant = mediaType.get().equals(MediaType.APPLICATION_JSON) ? validator : validator.variant(mediaType.get().getSubtype());
+        if (webRequest.checkNotModified(variant.etag(), variant.lastModified())) {
+            return null;
+        }
+
+        return builder.contentType(mediaType.get())
+                      .body(response);
+    }
+
+    private Optional<MediaType> negotiatedMediaType(WebRequest webRequest) {
+        try {
+            var mediaTypes = MediaType.parseMediaTypes(webRequest.getHeader(HttpHeaders.ACCEPT));
+            MimeTypeUtils.sortBySpecificity(mediaTypes);
+
+            return mediaTypes.stream()
+                             .filter(mediaType -> mediaType.getQualityValue() > 0)
+                             .flatMap(mediaType -> PRODUCIBLE_MEDIA_TYPES.stream().filter(mediaType::isCompatibleWith))
+                             .findFirst();
+        } catch (InvalidMediaTypeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private boolean prefersJson(WebRequest webRequest) {
+        var accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return true;
+        }
+
+        try {
+            var mediaTypes = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(mediaTypes);
+
+            return mediaTypes.isEmpty() || mediaTypes.get(0).isCompatibleWith(MediaType.APPLICATION_JSON);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,13 @@
+package com.cafe.menu.controller.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkUpsertMenuRequest(@NotEmpty(message = "메뉴 목록을 확인해주세요")
+                                    @Size(max = 10000, message = "한 번에 저장할 수 있는 메뉴는 10000개 입니다")
+                                    List<@Valid CreateMenuRequest> menus,
+                                    boolean upsert) {
+}
@@ -0,0 +1,12 @@
+package com.cafe.menu.controller.dto;
+
+import java.util.List;
+
+public record BulkUpsertMenuResponse(List<Item> menus) {
+    public record Item(int index, String name, Long id, Result result) {
+    }
+
+    public enum Result {
+        CREATED, UPDATED, CONFLICT
+    }
+}
@@ -0,0 +1,6 @@
+package com.cafe.menu.controller.dto;
+
+import java.util.List;
+
+public record DeleteMenusResponse(List<Long> ids, int deletedCount) {
+}
@@ -0,0 +1,6 @@
+package com.cafe.menu.controller.dto;
+
+import java.util.List;
+
+public record GetMenuPageResponse(List<GetMenuResponse> menus, String nextCursor) {
+}
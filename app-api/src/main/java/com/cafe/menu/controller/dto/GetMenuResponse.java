@@ -1,4 +1,11 @@
 package com.cafe.menu.controller.dto;
 
-public record GetMenuResponse(Long id, String name, Integer price) {
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDateTime;
+
+public record GetMenuResponse(Long id, String name, Integer price, Long version, @JsonIgnore LocalDateTime updatedAt) {
+    public GetMenuResponse(Long id, String name, Integer price, Long version) {
+        this(id, name, price, version, null);
+    }
 }
@@ -0,0 +1,8 @@
+package com.cafe.menu.controller.dto;
+
+import java.util.List;
+
+public record GetMenusResponse(List<Item> menus) {
+    public record Item(Long id, boolean found, GetMenuResponse menu) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.cafe.menu.controller.dto;
+
+import com.cafe.menu.price.MenuPriceUpdateStatus;
+
+public record MenuPriceUpdateResponse(String trackingId, Long menuId, Integer price, MenuPriceUpdateStatus status) {
+}
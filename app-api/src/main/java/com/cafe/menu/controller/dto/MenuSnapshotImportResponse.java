@@ -0,0 +1,4 @@
+package com.cafe.menu.controller.dto;
+
+public record MenuSnapshotImportResponse(long created, long updated, long conflicted, long invalid, Integer failedLine) {
+}
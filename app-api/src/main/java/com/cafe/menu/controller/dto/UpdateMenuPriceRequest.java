@@ -0,0 +1,9 @@
+package com.cafe.menu.controller.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record UpdateMenuPriceRequest(@NotNull(message = "ID를 확인해주세요") Long id,
+                                     @NotNull(message = "메뉴의 가격을 확인해주세요")
+                                     @Min(value = 500, message = "메뉴의 가격을 확인해주세요") Integer price) {
+}
@@ -6,5 +6,6 @@ import jakarta.validation.constraints.NotNull;
 
 public record UpdateMenuRequest(@NotNull(message = "ID를 확인해주세요") Long id,
                                 @NotBlank(message = "이름을 확인해주세요") String name,
-                                @Min(value = 500, message = "메뉴의 가격을 확인해주세요") Integer price) {
+                                @Min(value = 500, message = "메뉴의 가격을 확인해주세요") Integer price,
+                                Long version) {
 }
@@ -0,0 +1,6 @@
+package com.cafe.menu.event;
+
+import com.cafe.enums.MenuChangeType;
+
+public record MenuChangedEvent(Long menuId, MenuChangeType type) {
+}
@@ -0,0 +1,12 @@
+package com.cafe.menu.outbox;
+
+import com.cafe.domain.outbox.MenuOutboxEvent;
+import com.cafe.enums.MenuChangeType;
+
+import java.time.LocalDateTime;
+
+public record MenuChangeMessage(Long eventId, Long sequence, Long menuId, MenuChangeType type, LocalDateTime occurredAt) {
+    public static MenuChangeMessage of(MenuOutboxEvent event) {
+        return new MenuChangeMessage(event.getId(), event.getRelaySequence(), event.getMenuId(), event.getType(), event.getOccurredAt());
+    }
+}
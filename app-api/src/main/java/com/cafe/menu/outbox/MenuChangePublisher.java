@@ -0,0 +1,9 @@
+package com.cafe.menu.outbox;
+
+import java.util.List;
+
+public interface MenuChangePublisher {
+    String name();
+
+    void publish(List<MenuChangeMessage> messages);
+}
@@ -0,0 +1,30 @@
+package com.cafe.menu.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@EnableScheduling
+@RequiredArgsConstructor
+public class MenuOutboxConfig implements SchedulingConfigurer {
+    private final MenuOutboxRelay menuOutboxRelay;
+    private final MenuOutboxTailer menuOutboxTailer;
+    private final MenuOutboxProperties properties;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (properties.tailEnabled()) {
+            taskRegistrar.addFixedDelayTask(new FixedDelayTask(menuOutboxTailer::poll, properties.tailInterval(), properties.tailInterval()));
+        }
+        if (!properties.relayEnabled()) {
+            return;
+        }
+
+        taskRegistrar.addFixedDelayTask(new FixedDelayTask(menuOutboxRelay::relay, properties.relayInterval(), properties.relayInterval()));
+        taskRegistrar.addFixedDelayTask(new FixedDelayTask(menuOutboxRelay::purge, properties.purgeInterval(), properties.purgeInterval()));
+    }
+}
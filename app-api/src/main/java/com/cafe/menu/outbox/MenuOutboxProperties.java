@@ -0,0 +1,18 @@
+package com.cafe.menu.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("cafe.menu.outbox")
+public record MenuOutboxProperties(@DefaultValue("true") boolean relayEnabled,
+                                   @DefaultValue("1s") Duration relayInterval,
+                                   @DefaultValue("true") boolean tailEnabled,
+                                   @DefaultValue("500ms") Duration tailInterval,
+                                   @DefaultValue("100") int batchSize,
+                                   @DefaultValue("1d") Duration retention,
+                                   @DefaultValue("10m") Duration purgeInterval,
+                                   @DefaultValue("30m") Duration sseTimeout,
+                                   @DefaultValue("1000") int sseBufferSize) {
+}
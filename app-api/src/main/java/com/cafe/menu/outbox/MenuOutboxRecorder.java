@@ -0,0 +1,24 @@
+package com.cafe.menu.outbox;
+
+import com.cafe.domain.outbox.MenuOutboxEvent;
+import com.cafe.menu.event.MenuChangedEvent;
+import com.cafe.repository.MenuOutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class MenuOutboxRecorder {
+    private final MenuOutboxEventRepository outboxEventRepository;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onMenuChanged(MenuChangedEvent event) {
+        outboxEventRepository.save(MenuOutboxEvent.create(event.menuId(), event.type(), LocalDateTime.now()));
+    }
+}
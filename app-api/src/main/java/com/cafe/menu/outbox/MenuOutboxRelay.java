@@ -0,0 +1,59 @@
+package com.cafe.menu.outbox;
+
+import com.cafe.domain.outbox.MenuOutboxRelayCursor;
+import com.cafe.repository.MenuOutboxEventRepository;
+import com.cafe.repository.MenuOutboxRelayCursorRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+@Component
+public class MenuOutboxRelay {
+    private final MenuOutboxEventRepository outboxEventRepository;
+    private final MenuOutboxRelayCursorRepository relayCursorRepository;
+    private final MenuOutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public MenuOutboxRelay(MenuOutboxEventRepository outboxEventRepository,
+                           MenuOutboxRelayCursorRepository relayCursorRepository,
+                           MenuOutboxProperties properties,
+                           PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.relayCursorRepository = relayCursorRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public int relay() {
+        var total = 0;
+        int relayed;
+
+        do {
+            relayed = transactionTemplate.execute(status -> relayBatch());
+            total += relayed;
+        } while (relayed == properties.batchSize());
+
+        return total;
+    }
+
+    public int purge() {
+        return transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(properties.retention())));
+    }
+
+    private int relayBatch() {
+        var cursor = relayCursorRepository.findForUpdate(MenuOutboxRelayCursor.ID);
+        if (cursor.isEmpty()) {
+            return 0;
+        }
+
+        var events = outboxEventRepository.findUnpublished(PageRequest.ofSize(properties.batchSize()));
+        var publishedAt = LocalDateTime.now();
+        events.forEach(event -> event.publish(cursor.get().next(), publishedAt));
+
+        return events.size();
+    }
+}
@@ -0,0 +1,70 @@
+package com.cafe.menu.outbox;
+
+import com.cafe.domain.outbox.MenuOutboxDeliveryCursor;
+import com.cafe.repository.MenuOutboxDeliveryCursorRepository;
+import com.cafe.repository.MenuOutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class MenuOutboxTailer {
+    private final MenuOutboxEventRepository outboxEventRepository;
+    private final MenuOutboxDeliveryCursorRepository deliveryCursorRepository;
+    private final List<MenuChangePublisher> publishers;
+    private final MenuOutboxProperties properties;
+    private final Map<String, MenuOutboxDeliveryCursor> cursors = new HashMap<>();
+
+    public synchronized int poll() {
+        var total = 0;
+        List<MenuChangeMessage> messages;
+
+        do {
+            messages = outboxEventRepository.findPublishedAfter(lowestDeliveredSequence(), PageRequest.ofSize(properties.batchSize()))
+                                            .stream()
+                                            .map(MenuChangeMessage::of)
+                                            .toList();
+            if (messages.isEmpty()) {
+                break;
+            }
+
+            for (var publisher : publishers) {
+                deliver(publisher, messages);
+            }
+            total += messages.size();
+        } while (messages.size() == properties.batchSize());
+
+        return total;
+    }
+
+    private void deliver(MenuChangePublisher publisher, List<MenuChangeMessage> messages) {
+        var cursor = cursorOf(publisher);
+        var undelivered = messages.stream()
+                                  .filter(message -> message.sequence() > cursor.getLastSequence())
+                                  .toList();
+        if (undelivered.isEmpty()) {
+            return;
+        }
+
+        publisher.publish(undelivered);
+        cursor.advance(undelivered.get(undelivered.size() - 1).sequence());
+        cursors.put(publisher.name(), deliveryCursorRepository.save(cursor));
+    }
+
+    private long lowestDeliveredSequence() {
+        return publishers.stream()
+                         .mapToLong(publisher -> cursorOf(publisher).getLastSequence())
+                         .min()
+                         .orElse(Long.MAX_VALUE);
+    }
+
+    private MenuOutboxDeliveryCursor cursorOf(MenuChangePublisher publisher) {
+        return cursors.computeIfAbsent(publisher.name(), name -> deliveryCursorRepository.findById(name)
+                                                                                         .orElseGet(() -> MenuOutboxDeliveryCursor.create(name)));
+    }
+}
@@ -0,0 +1,198 @@
+package com.cafe.menu.outbox;
+
+import com.cafe.domain.outbox.MenuOutboxDeliveryCursor;
+import com.cafe.repository.MenuOutboxDeliveryCursorRepository;
+import com.cafe.repository.MenuOutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class SseMenuChangePublisher implements MenuChangePublisher {
+    private static final String NAME = "sse";
+    private static final String EVENT_NAME = "menu-changed";
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final MenuOutboxEventRepository outboxEventRepository;
+    private final MenuOutboxProperties properties;
+    private final ExecutorService sender;
+    private long deliveredSequence;
+
+    @Autowired
+    public SseMenuChangePublisher(MenuOutboxEventRepository outboxEventRepository,
+                                  MenuOutboxDeliveryCursorRepository deliveryCursorRepository,
+                                  MenuOutboxProperties properties) {
+        this(outboxEventRepository, deliveryCursorRepository, properties, Executors.newCachedThreadPool());
+    }
+
+    SseMenuChangePublisher(MenuOutboxEventRepository outboxEventRepository,
+                           MenuOutboxDeliveryCursorRepository deliveryCursorRepository,
+                           MenuOutboxProperties properties,
+                           ExecutorService sender) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.properties = properties;
+        this.sender = sender;
+        this.deliveredSequence = deliveryCursorRepository.findById(NAME)
+                                                         .map(MenuOutboxDeliveryCursor::getLastSequence)
+                                                         .orElse(0L);
+    }
+
+    public SseEmitter subscribe(Long lastEventId) {
+        var emitter = new SseEmitter(properties.sseTimeout().toMillis());
+        Subscriber subscriber;
+        synchronized (this) {
+            subscriber = new Subscriber(emitter, lastEventId == null ? deliveredSequence : lastEventId, deliveredSequence);
+            subscribers.add(subscriber);
+        }
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(throwable -> subscribers.remove(subscriber));
+
+        subscriber.schedule();
+
+        return emitter;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void publish(List<MenuChangeMessage> messages) {
+        List<Subscriber> targets;
+        synchronized (this) {
+            var undelivered = messages.stream()
+                                      .filter(message -> message.sequence() > deliveredSequence)
+                                      .toList();
+            if (undelivered.isEmpty()) {
+                return;
+            }
+
+            deliveredSequence = undelivered.get(undelivered.size() - 1).sequence();
+            targets = List.copyOf(subscribers);
+            targets.forEach(subscriber -> subscriber.enqueue(undelivered));
+        }
+
+        targets.forEach(Subscriber::schedule);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final long replayUpTo;
+        private final BlockingQueue<MenuChangeMessage> pending;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private long sentSequence;
+
+        private Subscriber(SseEmitter emitter, long sentSequence, long replayUpTo) {
+            this.emitter = emitter;
+            this.sentSequence = sentSequence;
+            this.replayUpTo = replayUpTo;
+            this.pending = new ArrayBlockingQueue<>(properties.sseBufferSize());
+        }
+
+        private void enqueue(List<MenuChangeMessage> messages) {
+            if (closed.get()) {
+                return;
+            }
+
+            for (var message : messages) {
+                if (!pending.offer(message)) {
+                    close(null);
+                    return;
+                }
+            }
+        }
+
+        private void schedule() {
+            if (!closed.get() && scheduled.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                if (sentSequence < replayUpTo) {
+                    replay();
+                }
+
+                MenuChangeMessage message;
+                while (!closed.get() && (message = pending.poll()) != null) {
+                    if (message.sequence() > sentSequence) {
+                        send(message);
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                close(e);
+            } finally {
+                scheduled.set(false);
+            }
+
+            if (!pending.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void replay() throws IOException {
+            List<MenuChangeMessage> messages;
+
+            do {
+                messages = outboxEventRepository.findPublishedBetween(sentSequence, replayUpTo, PageRequest.ofSize(properties.batchSize()))
+                                                .stream()
+                                                .map(MenuChangeMessage::of)
+                                                .toList();
+                for (var message : messages) {
+                    send(message);
+                }
+            } while (!closed.get() && messages.size() == properties.batchSize());
+
+            sentSequence = Math.max(sentSequence, replayUpTo);
+        }
+
+        private void send(MenuChangeMessage message) throws IOException {
+            emitter.send(SseEmitter.event()
+                                   .id(String.valueOf(message.sequence()))
+                                   .name(EVENT_NAME)
+                                   .data(message, MediaType.APPLICATION_JSON));
+            sentSequence = message.sequence();
+        }
+
+        private void close(Throwable cause) {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+
+            subscribers.remove(this);
+            pending.clear();
+            sender.execute(() -> {
+                if (cause == null) {
+                    emitter.complete();
+                } else {
+                    emitter.completeWithError(cause);
+                }
+            });
+        }
+    }
+}
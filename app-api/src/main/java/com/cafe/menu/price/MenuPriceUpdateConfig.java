@@ -0,0 +1,25 @@
+package com.cafe.menu.price;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@EnableScheduling
+@RequiredArgsConstructor
+public class MenuPriceUpdateConfig implements SchedulingConfigurer {
+    private final MenuPriceUpdateQueue menuPriceUpdateQueue;
+    private final MenuPriceUpdateProperties properties;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (!properties.flushEnabled()) {
+            return;
+        }
+
+        taskRegistrar.addFixedDelayTask(new FixedDelayTask(menuPriceUpdateQueue::flush, properties.flushInterval(), properties.flushInterval()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.cafe.menu.price;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("cafe.menu.price-update")
+public record MenuPriceUpdateProperties(@DefaultValue("true") boolean flushEnabled,
+                                        @DefaultValue("10000") int queueCapacity,
+                                        @DefaultValue("1s") Duration flushInterval,
+                                        @DefaultValue("500") int flushSize,
+                                        @DefaultValue("10m") Duration statusRetention) {
+}
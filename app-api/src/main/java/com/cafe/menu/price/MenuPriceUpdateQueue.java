@@ -0,0 +1,154 @@
+package com.cafe.menu.price;
+
+import com.cafe.exception.ServiceUnavailableException;
+import com.cafe.menu.controller.dto.MenuPriceUpdateResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class MenuPriceUpdateQueue {
+    private final MenuPriceUpdateWriter menuPriceUpdateWriter;
+    private final MenuPriceUpdateProperties properties;
+    private final Executor flushExecutor;
+    private final ConcurrentHashMap<Long, PendingMenuPrice> pending = new ConcurrentHashMap<>();
+    private final Cache<String, MenuPriceUpdateResponse> statuses;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Counter collapsedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushTimer;
+
+    public MenuPriceUpdateQueue(MenuPriceUpdateWriter menuPriceUpdateWriter,
+                                MenuPriceUpdateProperties properties,
+                                @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor flushExecutor,
+                                MeterRegistry meterRegistry) {
+        this.menuPriceUpdateWriter = menuPriceUpdateWriter;
+        this.properties = properties;
+        this.flushExecutor = flushExecutor;
+        this.statuses = Caffeine.newBuilder()
+                                .expireAfterWrite(properties.statusRetention())
+                                .build();
+        Gauge.builder("cafe.menu.price-update.queue.size", pending, ConcurrentHashMap::size)
+             .description("Menus with a price update waiting to be flushed")
+             .register(meterRegistry);
+        this.collapsedCounter = Counter.builder("cafe.menu.price-update.collapsed")
+                                       .description("Price updates replaced by a newer update for the same menu before flushing")
+                                       .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("cafe.menu.price-update.batch.size")
+                                                   .description("Price updates written per batched UPDATE")
+                                                   .register(meterRegistry);
+        this.flushTimer = Timer.builder("cafe.menu.price-update.flush")
+                               .description("Time spent writing one batch of price updates")
+                               .publishPercentileHistogram()
+                               .register(meterRegistry);
+    }
+
+    public MenuPriceUpdateResponse submit(Long menuId, Integer price) {
+        if (pending.size() >= properties.queueCapacity() && !pending.containsKey(menuId)) {
+            throw ServiceUnavailableException.of();
+        }
+
+        var update = new PendingMenuPrice(UUID.randomUUID().toString(), menuId, price);
+        var response = updateStatus(update, MenuPriceUpdateStatus.PENDING);
+        var superseded = pending.put(menuId, update);
+        if (superseded != null) {
+            updateStatus(superseded, MenuPriceUpdateStatus.SUPERSEDED);
+            collapsedCounter.increment();
+        }
+
+        if (pending.size() >= properties.flushSize() && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(this::flush);
+        }
+
+        return response;
+    }
+
+    public Optional<MenuPriceUpdateResponse> getStatus(String trackingId) {
+        return Optional.ofNullable(statuses.getIfPresent(trackingId));
+    }
+
+    public int getQueueSize() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        while (!pending.isEmpty()) {
+            flush();
+        }
+    }
+
+    public synchronized int flush() {
+        flushRequested.set(false);
+        var flushed = 0;
+        List<PendingMenuPrice> batch;
+
+        while (!(batch = drain(properties.flushSize())).isEmpty()) {
+            flushed += batch.size();
+            var startNanos = System.nanoTime();
+            try {
+                apply(batch);
+            } catch (RuntimeException e) {
+                batch.forEach(this::requeue);
+                throw e;
+            } finally {
+                flushTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                batchSizeSummary.record(batch.size());
+            }
+        }
+
+        return flushed;
+    }
+
+    private List<PendingMenuPrice> drain(int maxSize) {
+        var batch = new ArrayList<PendingMenuPrice>(Math.min(maxSize, pending.size()));
+        for (var entry : pending.entrySet()) {
+            if (batch.size() >= maxSize) {
+                break;
+            }
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.add(entry.getValue());
+            }
+        }
+
+        return batch;
+    }
+
+    private void requeue(PendingMenuPrice update) {
+        if (pending.putIfAbsent(update.menuId(), update) != null) {
+            updateStatus(update, MenuPriceUpdateStatus.SUPERSEDED);
+            collapsedCounter.increment();
+        }
+    }
+
+    private void apply(List<PendingMenuPrice> batch) {
+        var updatedCounts = menuPriceUpdateWriter.updatePrices(batch);
+        for (int i = 0; i < batch.size(); i++) {
+            updateStatus(batch.get(i), updatedCounts[i] == 0 ? MenuPriceUpdateStatus.NOT_FOUND : MenuPriceUpdateStatus.APPLIED);
+        }
+    }
+
+    private MenuPriceUpdateResponse updateStatus(PendingMenuPrice update, MenuPriceUpdateStatus status) {
+        var response = new MenuPriceUpdateResponse(update.trackingId(), update.menuId(), update.price(), status);
+        statuses.put(update.trackingId(), response);
+
+        return response;
+    }
+}
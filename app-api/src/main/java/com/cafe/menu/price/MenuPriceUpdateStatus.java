@@ -0,0 +1,8 @@
+package com.cafe.menu.price;
+
+public enum MenuPriceUpdateStatus {
+    PENDING,
+    SUPERSEDED,
+    APPLIED,
+    NOT_FOUND
+}
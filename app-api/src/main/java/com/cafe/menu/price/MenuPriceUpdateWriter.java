@@ -0,0 +1,52 @@
+package com.cafe.menu.price;
+
+import com.cafe.enums.MenuChangeType;
+import com.cafe.menu.event.MenuChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class MenuPriceUpdateWriter {
+    private static final String UPDATE_PRICE_SQL = "update menu set price = ?, version = version + 1, updated_at = ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public int[] updatePrices(List<PendingMenuPrice> updates) {
+        var updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        var updatedCounts = jdbcTemplate.batchUpdate(UPDATE_PRICE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                var update = updates.get(i);
+                ps.setInt(1, update.price());
+                ps.setTimestamp(2, updatedAt);
+                ps.setLong(3, update.menuId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return updates.size();
+            }
+        });
+
+        for (int i = 0; i < updatedCounts.length; i++) {
+            if (updatedCounts[i] != 0) {
+                eventPublisher.publishEvent(new MenuChangedEvent(updates.get(i).menuId(), MenuChangeType.UPDATED));
+            }
+        }
+
+        return updatedCounts;
+    }
+}
@@ -0,0 +1,4 @@
+package com.cafe.menu.price;
+
+public record PendingMenuPrice(String trackingId, Long menuId, Integer price) {
+}
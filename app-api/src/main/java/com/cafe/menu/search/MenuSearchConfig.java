@@ -0,0 +1,26 @@
+package com.cafe.menu.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@EnableScheduling
+@RequiredArgsConstructor
+public class MenuSearchConfig implements SchedulingConfigurer {
+    private final MenuSearchIndexer menuSearchIndexer;
+    private final MenuSearchProperties properties;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (!properties.refreshEnabled()) {
+            return;
+        }
+
+        taskRegistrar.addFixedDelayTask(new FixedDelayTask(menuSearchIndexer::refresh, properties.refreshInterval(), properties.refreshInterval()));
+        taskRegistrar.addFixedDelayTask(new FixedDelayTask(menuSearchIndexer::rebuild, properties.rebuildInterval(), properties.rebuildInterval()));
+    }
+}
@@ -0,0 +1,193 @@
+package com.cafe.menu.search;
+
+import com.cafe.menu.controller.dto.GetMenuResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MenuSearchIndex {
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_SYLLABLE_BEGIN = '가';
+    private static final char HANGUL_SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 588;
+    private static final String CHOSEONG_PREFIX = "#";
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Map<String, Posting> postings = new ConcurrentHashMap<>();
+
+    public void put(GetMenuResponse menu) {
+        var document = new Document(menu, normalize(menu.name()), choseong(normalize(menu.name())));
+        var terms = terms(document);
+        terms.forEach(term -> postings.compute(term, (key, posting) -> {
+            var current = posting == null ? new Posting() : posting;
+            current.add(menu.id());
+            return current;
+        }));
+
+        var previous = documents.put(menu.id(), document);
+        if (previous != null) {
+            var removedTerms = terms(previous);
+            removedTerms.removeAll(terms);
+            removePostings(menu.id(), removedTerms);
+        }
+    }
+
+    public void remove(Long menuId) {
+        var previous = documents.remove(menuId);
+
+        if (previous != null) {
+            removePostings(menuId, terms(previous));
+        }
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public List<GetMenuResponse> search(String query, boolean prefix, Long cursor, int limit) {
+        var normalizedQuery = normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return List.of();
+        }
+
+        var choseongQuery = isChoseong(normalizedQuery);
+        var candidates = smallestPosting(queryTerms(normalizedQuery, choseongQuery));
+        if (candidates == null) {
+            return List.of();
+        }
+
+        var result = new ArrayList<GetMenuResponse>(Math.min(limit, candidates.size()));
+        for (var menuId : candidates.menuIds().tailSet(cursor, false)) {
+            var document = documents.get(menuId);
+            if (document != null && document.matches(normalizedQuery, choseongQuery, prefix)) {
+                result.add(document.menu());
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    static String normalize(String value) {
+        var builder = new StringBuilder(value.length());
+        value.toLowerCase(Locale.ROOT)
+             .codePoints()
+             .filter(codePoint -> !Character.isWhitespace(codePoint))
+             .forEach(builder::appendCodePoint);
+
+        return builder.toString();
+    }
+
+    static String choseong(String value) {
+        var builder = new StringBuilder(value.length());
+        for (var character : value.toCharArray()) {
+            if (character >= HANGUL_SYLLABLE_BEGIN && character <= HANGUL_SYLLABLE_END) {
+                builder.append(CHOSEONG[(character - HANGUL_SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSEONG]);
+            } else {
+                builder.append(character);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    static boolean isChoseong(String value) {
+        return value.chars().allMatch(character -> Arrays.binarySearch(CHOSEONG, (char) character) >= 0);
+    }
+
+    private Posting smallestPosting(Set<String> terms) {
+        Posting smallest = null;
+        for (var term : terms) {
+            var posting = postings.get(term);
+            if (posting == null) {
+                return null;
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+
+        return smallest;
+    }
+
+    private void removePostings(Long menuId, Set<String> terms) {
+        terms.forEach(term -> postings.computeIfPresent(term, (key, posting) -> {
+            posting.remove(menuId);
+            return posting.size() == 0 ? null : posting;
+        }));
+    }
+
+    private static Set<String> terms(Document document) {
+        var terms = new HashSet<String>();
+        addGrams(terms, document.name(), "");
+        addGrams(terms, document.choseong(), CHOSEONG_PREFIX);
+
+        return terms;
+    }
+
+    private static Set<String> queryTerms(String query, boolean choseongQuery) {
+        var prefix = choseongQuery ? CHOSEONG_PREFIX : "";
+        if (query.length() == 1) {
+            return Set.of(prefix + query);
+        }
+
+        var terms = new HashSet<String>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            terms.add(prefix + query.substring(i, i + 2));
+        }
+
+        return terms;
+    }
+
+    private static void addGrams(Set<String> terms, String value, String prefix) {
+        for (int i = 0; i < value.length(); i++) {
+            terms.add(prefix + value.charAt(i));
+            if (i + 1 < value.length()) {
+                terms.add(prefix + value.substring(i, i + 2));
+            }
+        }
+    }
+
+    private record Posting(NavigableSet<Long> menuIds, AtomicInteger count) {
+        private Posting() {
+            this(new ConcurrentSkipListSet<>(), new AtomicInteger());
+        }
+
+        private void add(Long menuId) {
+            if (menuIds.add(menuId)) {
+                count.incrementAndGet();
+            }
+        }
+
+        private void remove(Long menuId) {
+            if (menuIds.remove(menuId)) {
+                count.decrementAndGet();
+            }
+        }
+
+        private int size() {
+            return count.get();
+        }
+    }
+
+    private record Document(GetMenuResponse menu, String name, String choseong) {
+        private boolean matches(String query, boolean choseongQuery, boolean prefix) {
+            var target = choseongQuery ? choseong : name;
+
+            return prefix ? target.startsWith(query) : target.contains(query);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.cafe.menu.search;
+
+import com.cafe.menu.controller.dto.GetMenuResponse;
+import com.cafe.menu.event.MenuChangedEvent;
+import com.cafe.menu.outbox.MenuChangeMessage;
+import com.cafe.menu.outbox.MenuChangePublisher;
+import com.cafe.repository.MenuRepository;
+import com.cafe.repository.projection.MenuSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class MenuSearchIndexer implements MenuChangePublisher {
+    private final MenuRepository menuRepository;
+    private final MenuSearchProperties properties;
+    private final Set<Long> dirtyMenuIds = ConcurrentHashMap.newKeySet();
+    private volatile MenuSearchIndex index = new MenuSearchIndex();
+
+    public MenuSearchIndex getIndex() {
+        return index;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        dirtyMenuIds.add(event.menuId());
+    }
+
+    @Override
+    public String name() {
+        return "search-index";
+    }
+
+    @Override
+    public void publish(List<MenuChangeMessage> messages) {
+        messages.forEach(message -> dirtyMenuIds.add(message.menuId()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        var rebuilt = new MenuSearchIndex();
+        var cursor = 0L;
+        List<MenuSummary> summaries;
+
+        do {
+            summaries = menuRepository.findSummariesAfter(cursor, PageRequest.ofSize(properties.loadBatchSize()));
+            summaries.forEach(summary -> rebuilt.put(new GetMenuResponse(summary.id(), summary.name(), summary.price(), summary.version())));
+            cursor = summaries.isEmpty() ? cursor : summaries.get(summaries.size() - 1).id();
+        } while (summaries.size() == properties.loadBatchSize());
+
+        index = rebuilt;
+    }
+
+    public synchronized int refresh() {
+        if (dirtyMenuIds.isEmpty()) {
+            return 0;
+        }
+
+        var menuIds = new ArrayList<>(dirtyMenuIds);
+        dirtyMenuIds.removeAll(menuIds);
+
+        for (int from = 0; from < menuIds.size(); from += properties.loadBatchSize()) {
+            var chunk = menuIds.subList(from, Math.min(from + properties.loadBatchSize(), menuIds.size()));
+            var missingIds = new HashSet<>(chunk);
+
+            menuRepository.findAllById(chunk)
+                          .forEach(menu -> {
+                              index.put(new GetMenuResponse(menu.getId(), menu.getName(), menu.getPrice(), menu.getVersion()));
+                              missingIds.remove(menu.getId());
+                          });
+            missingIds.forEach(index::remove);
+        }
+
+        return menuIds.size();
+    }
+}
@@ -0,0 +1,13 @@
+package com.cafe.menu.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("cafe.menu.search")
+public record MenuSearchProperties(@DefaultValue("true") boolean refreshEnabled,
+                                   @DefaultValue("1s") Duration refreshInterval,
+                                   @DefaultValue("30m") Duration rebuildInterval,
+                                   @DefaultValue("1000") int loadBatchSize) {
+}
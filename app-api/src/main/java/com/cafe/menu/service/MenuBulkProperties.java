@@ -0,0 +1,11 @@
+package com.cafe.menu.service;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties("cafe.menu.bulk")
+public record MenuBulkProperties(@DefaultValue("100") @Positive int batchSize) {
+}
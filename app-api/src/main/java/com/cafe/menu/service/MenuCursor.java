@@ -0,0 +1,84 @@
+package com.cafe.menu.service;
+
+import com.cafe.enums.MenuSortKey;
+import com.cafe.exception.BadRequestException;
+import com.cafe.repository.projection.MenuSummary;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+final class MenuCursor {
+    private static final char SEPARATOR = ':';
+
+    private MenuCursor() {
+    }
+
+    static String encode(Long id) {
+        return encodeText(id.toString());
+    }
+
+    static String encode(MenuSortKey sortKey, MenuSummary summary) {
+        return switch (sortKey) {
+            case ID -> encode(summary.id());
+            case PRICE -> encodeText(sortKey.getProperty() + SEPARATOR + (summary.price() == null ? "" : summary.price()) + SEPARATOR + summary.id());
+            case NAME -> encodeText(sortKey.getProperty() + SEPARATOR + summary.name() + SEPARATOR + summary.id());
+            case CREATED_AT -> encodeText(sortKey.getProperty() + SEPARATOR + summary.createdAt() + SEPARATOR + summary.id());
+        };
+    }
+
+    static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+
+        try {
+            return Long.valueOf(decodeText(cursor));
+        } catch (IllegalArgumentException e) {
+            throw BadRequestException.of();
+        }
+    }
+
+    static Keyset decode(String cursor, MenuSortKey sortKey) {
+        if (cursor == null || cursor.isBlank()) {
+            return new Keyset(null, null);
+        }
+        if (sortKey == MenuSortKey.ID) {
+            return new Keyset(null, decode(cursor));
+        }
+
+        try {
+            var text = decodeText(cursor);
+            var prefix = sortKey.getProperty() + SEPARATOR;
+            var lastSeparator = text.lastIndexOf(SEPARATOR);
+            if (!text.startsWith(prefix) || lastSeparator < prefix.length()) {
+                throw BadRequestException.of();
+            }
+
+            var value = text.substring(prefix.length(), lastSeparator);
+            var id = Long.valueOf(text.substring(lastSeparator + 1));
+
+            return switch (sortKey) {
+                case PRICE -> new Keyset(value.isEmpty() ? null : Integer.valueOf(value), id);
+                case CREATED_AT -> new Keyset(LocalDateTime.parse(value), id);
+                default -> new Keyset(value, id);
+            };
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw BadRequestException.of();
+        }
+    }
+
+    private static String encodeText(String text) {
+        return Base64.getUrlEncoder()
+                     .withoutPadding()
+                     .encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeText(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+
+    record Keyset(Object value, Long id) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.cafe.menu.service;
+
+import com.cafe.menu.controller.dto.GetMenuPageResponse;
+
+public record MenuPage(GetMenuPageResponse response, MenuValidator validator) {
+}
@@ -1,23 +1,93 @@
 package com.cafe.menu.service;
 
-import com.cafe.enums.ErrorCode;
+import com.cafe.enums.MenuSortKey;
+import com.cafe.exception.BadRequestException;
 import com.cafe.exception.NotFoundException;
+import com.cafe.menu.cache.MenuCache;
+import com.cafe.menu.controller.dto.GetMenuPageResponse;
 import com.cafe.menu.controller.dto.GetMenuResponse;
+import com.cafe.menu.controller.dto.GetMenusResponse;
 import com.cafe.repository.MenuRepository;
+import com.cafe.repository.condition.MenuListCondition;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class MenuReadService {
+    public static final int MAX_BATCH_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final MenuRepository menuRepository;
+    private final MenuCache menuCache;
 
-    @Transactional(readOnly = true)
     public GetMenuResponse getMenuById(Long id) {
-        var menu = menuRepository.findById(id)
-                                 .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_FOUND.getMessage(), ErrorCode.NOT_FOUND.getCode(), ErrorCode.NOT_FOUND.getStatus()));
+        return menuCache.get(id, this::findMenuById)
+                        .orElseThrow(NotFoundException::of);
+    }
+
+    public GetMenusResponse getMenusByIds(List<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE || ids.stream().anyMatch(Objects::isNull)) {
+            throw BadRequestException.of();
+        }
+
+        var menus = menuCache.getAll(ids, this::findMenusByIds);
+
+        return new GetMenusResponse(ids.stream()
+                                       .map(id -> menus.get(id)
+                                                       .map(menu -> new GetMenusResponse.Item(id, true, menu))
+                                                       .orElseGet(() -> new GetMenusResponse.Item(id, false, null)))
+                                       .toList());
+    }
+
+    public MenuPage getMenus(String cursor, int size) {
+        return getMenus(cursor, size, null, null, MenuSortKey.ID.getProperty(), Sort.Direction.ASC.name());
+    }
+
+    @Transactional(readOnly = true)
+    public MenuPage getMenus(String cursor, int size, Integer minPrice, Integer maxPrice, String sort, String direction) {
+        var sortKey = MenuSortKey.fromProperty(sort)
+                                 .orElseThrow(BadRequestException::of);
+        var sortDirection = Sort.Direction.fromOptionalString(direction)
+                                          .orElseThrow(BadRequestException::of);
+        if (size < 1 || size > MAX_PAGE_SIZE || (minPrice != null && maxPrice != null && minPrice > maxPrice)) {
+            throw BadRequestException.of();
+        }
+
+        var keyset = MenuCursor.decode(cursor, sortKey);
+        var condition = new MenuListCondition(minPrice, maxPrice, sortKey, sortDirection.isDescending(), keyset.value(), keyset.id());
+        var summaries = menuRepository.findSummaries(condition, size + 1);
+        var hasNext = summaries.size() > size;
+        var pageSummaries = hasNext ? summaries.subList(0, size) : summaries;
+        var menus = pageSummaries.stream()
+                                 .map(summary -> new GetMenuResponse(summary.id(), summary.name(), summary.price(), summary.version(), summary.updatedAt()))
+                                 .toList();
+        var nextCursor = hasNext ? MenuCursor.encode(sortKey, pageSummaries.get(pageSummaries.size() - 1)) : null;
+        var validator = MenuValidator.of(pageSummaries, nextCursor);
+
+        return new MenuPage(new GetMenuPageResponse(menus, nextCursor), validator);
+    }
+
+    private Optional<GetMenuResponse> findMenuById(Long id) {
+        return menuRepository.findById(id)
+                             .map(menu -> new GetMenuResponse(menu.getId(), menu.getName(), menu.getPrice(), menu.getVersion(), menu.getUpdatedAt()));
+    }
+
+    private Map<Long, Optional<GetMenuResponse>> findMenusByIds(Set<? extends Long> ids) {
+        var result = new HashMap<Long, Optional<GetMenuResponse>>();
+        ids.forEach(id -> result.put(id, Optional.empty()));
+        menuRepository.findAllById(List.copyOf(ids))
+                      .forEach(menu -> result.put(menu.getId(), Optional.of(new GetMenuResponse(menu.getId(), menu.getName(), menu.getPrice(), menu.getVersion(), menu.getUpdatedAt()))));
 
-        return new GetMenuResponse(menu.getId(), menu.getName(), menu.getPrice());
+        return result;
     }
 }
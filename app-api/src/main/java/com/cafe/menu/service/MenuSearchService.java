@@ -0,0 +1,29 @@
+package com.cafe.menu.service;
+
+import com.cafe.exception.BadRequestException;
+import com.cafe.menu.controller.dto.GetMenuPageResponse;
+import com.cafe.menu.search.MenuSearchIndexer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class MenuSearchService {
+    public static final int MAX_QUERY_LENGTH = 50;
+
+    private final MenuSearchIndexer menuSearchIndexer;
+
+    public GetMenuPageResponse searchMenus(String query, boolean prefix, String cursor, int size) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH
+                || size < 1 || size > MenuReadService.MAX_PAGE_SIZE) {
+            throw BadRequestException.of();
+        }
+
+        var menus = menuSearchIndexer.getIndex().search(query, prefix, MenuCursor.decode(cursor), size + 1);
+        var hasNext = menus.size() > size;
+        var page = hasNext ? menus.subList(0, size) : menus;
+        var nextCursor = hasNext ? MenuCursor.encode(page.get(page.size() - 1).id()) : null;
+
+        return new GetMenuPageResponse(page, nextCursor);
+    }
+}
@@ -0,0 +1,75 @@
+package com.cafe.menu.service;
+
+import com.cafe.menu.controller.dto.GetMenuResponse;
+import com.cafe.repository.projection.MenuSummary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.List;
+
+public record MenuValidator(String etag, long lastModified) {
+    private static final int PAGE_ETAG_BYTES = 16;
+
+    public static MenuValidator of(GetMenuResponse menu) {
+        return new MenuValidator("\"" + menu.id() + "-" + menu.version() + "\"", toEpochMilli(menu.updatedAt()));
+    }
+
+    public static MenuValidator of(List<MenuSummary> summaries, String nextCursor) {
+        var digest = sha256();
+        var buffer = ByteBuffer.allocate(Long.BYTES * 2);
+        var lastModified = -1L;
+
+        for (var summary : summaries) {
+            buffer.clear();
+            buffer.putLong(summary.id()).putLong(toEpochNanos(summary.updatedAt()));
+            digest.update(buffer.array());
+            lastModified = Math.max(lastModified, toEpochMilli(summary.updatedAt()));
+        }
+        if (nextCursor != null) {
+            digest.update(nextCursor.getBytes(StandardCharsets.UTF_8));
+        }
+
+        var hash = HexFormat.of().formatHex(digest.digest(), 0, PAGE_ETAG_BYTES);
+
+        return new MenuValidator("\"" + hash + "\"", lastModified);
+    }
+
+    public MenuValidator variant(String suffix) {
+        return new MenuValidator(etag.substring(0, etag.length() - 1) + "-" + suffix + "\"", lastModified);
+    }
+
+    private static long toEpochNanos(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0L;
+        }
+
+        var instant = toInstant(dateTime);
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return -1L;
+        }
+
+        return toInstant(dateTime).toEpochMilli();
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,44 +1,149 @@
 package com.cafe.menu.service;
 
 import com.cafe.domain.menu.Menu;
-import com.cafe.enums.ErrorCode;
+import com.cafe.enums.MenuChangeType;
+import com.cafe.exception.BadRequestException;
+import com.cafe.exception.ConflictException;
 import com.cafe.exception.NotFoundException;
+import com.cafe.menu.controller.dto.BulkUpsertMenuResponse;
+import com.cafe.menu.controller.dto.CreateMenuRequest;
+import com.cafe.menu.controller.dto.DeleteMenusResponse;
+import com.cafe.menu.event.MenuChangedEvent;
 import com.cafe.repository.MenuRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class MenuWriteService {
+    public static final int MAX_DELETE_SIZE = 1000;
+
     private final MenuRepository menuRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final MenuBulkProperties bulkProperties;
 
     @Transactional
     public Long createMenu(String name, Integer price) {
         var result = menuRepository.save(Menu.create(name, price));
+        eventPublisher.publishEvent(new MenuChangedEvent(result.getId(), MenuChangeType.CREATED));
 
         return result.getId();
     }
 
     @Transactional
     public Long updateMenu(Long id, String name, Integer price) {
-        var menu = findMenuBYId(id);
-        menu.update(name, price);
+        return updateMenu(id, name, price, null);
+    }
+
+    @Transactional
+    public Long updateMenu(Long id, String name, Integer price, Long version) {
+        var updatedCount = version == null
+                ? menuRepository.updateMenu(id, name, price, LocalDateTime.now())
+                : menuRepository.updateMenuIfVersionMatches(id, version, name, price, LocalDateTime.now());
+
+        if (updatedCount == 0) {
+            if (version != null && menuRepository.existsById(id)) {
+                throw ConflictException.of();
+            }
 
-        return menu.getId();
+            throw NotFoundException.of();
+        }
+
+        eventPublisher.publishEvent(new MenuChangedEvent(id, MenuChangeType.UPDATED));
+
+        return id;
     }
 
     @Transactional
     public Long deleteMenu(Long id) {
-        var menu = findMenuBYId(id);
-        menuRepository.delete(menu);
+        if (menuRepository.deleteMenuById(id) == 0) {
+            throw NotFoundException.of();
+        }
+
+        eventPublisher.publishEvent(new MenuChangedEvent(id, MenuChangeType.DELETED));
+
+        return id;
+    }
 
-        return menu.getId();
+    @Transactional
+    public DeleteMenusResponse deleteMenus(List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_DELETE_SIZE || ids.stream().anyMatch(Objects::isNull)) {
+            throw BadRequestException.of();
+        }
+
+        var distinctIds = new LinkedHashSet<>(ids);
+        var existingIds = menuRepository.findIdsForUpdate(distinctIds);
+        if (existingIds.isEmpty()) {
+            return new DeleteMenusResponse(List.copyOf(distinctIds), 0);
+        }
+
+        var deletedCount = menuRepository.deleteMenusByIds(existingIds);
+        existingIds.forEach(id -> eventPublisher.publishEvent(new MenuChangedEvent(id, MenuChangeType.DELETED)));
+
+        return new DeleteMenusResponse(List.copyOf(distinctIds), deletedCount);
     }
 
-    private Menu findMenuBYId(Long menuId) {
-        return menuRepository.findById(menuId)
-                             .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_FOUND.getMessage(), ErrorCode.NOT_FOUND.getCode(), ErrorCode.NOT_FOUND.getStatus()));
+    @Transactional
+    public BulkUpsertMenuResponse upsertMenus(List<CreateMenuRequest> requests, boolean upsert) {
+        var results = new BulkUpsertMenuResponse.Item[requests.size()];
+        var requestedNames = new HashSet<String>();
+        var batchSize = bulkProperties.batchSize();
+
+        for (int from = 0; from < requests.size(); from += batchSize) {
+            var to = Math.min(from + batchSize, requests.size());
+            var names = requests.subList(from, to)
+                                .stream()
+                                .map(CreateMenuRequest::name)
+                                .toList();
+            var existingMenus = menuRepository.findAllByNameIn(names)
+                                              .stream()
+                                              .collect(Collectors.toMap(Menu::getName, Function.identity()));
+            var savedMenus = new ArrayList<Menu>(to - from);
+
+            for (int index = from; index < to; index++) {
+                var request = requests.get(index);
+                var existingMenu = existingMenus.get(request.name());
+
+                if (!requestedNames.add(request.name()) || (existingMenu != null && !upsert)) {
+                    results[index] = new BulkUpsertMenuResponse.Item(index, request.name(), existingMenu == null ? null : existingMenu.getId(), BulkUpsertMenuResponse.Result.CONFLICT);
+                    savedMenus.add(null);
+                } else if (existingMenu != null) {
+                    existingMenu.update(request.name(), request.price());
+                    savedMenus.add(existingMenu);
+                } else {
+                    savedMenus.add(menuRepository.save(Menu.create(request.name(), request.price())));
+                }
+            }
+
+            entityManager.flush();
+            entityManager.clear();
+
+            for (int index = from; index < to; index++) {
+                var menu = savedMenus.get(index - from);
+
+                if (menu != null) {
+                    var result = existingMenus.containsKey(menu.getName()) ? BulkUpsertMenuResponse.Result.UPDATED : BulkUpsertMenuResponse.Result.CREATED;
+                    results[index] = new BulkUpsertMenuResponse.Item(index, menu.getName(), menu.getId(), result);
+                    var changeType = result == BulkUpsertMenuResponse.Result.UPDATED ? MenuChangeType.UPDATED : MenuChangeType.CREATED;
+                    eventPublisher.publishEvent(new MenuChangedEvent(menu.getId(), changeType));
+                }
+            }
+        }
 
+        return new BulkUpsertMenuResponse(Arrays.asList(results));
     }
 }
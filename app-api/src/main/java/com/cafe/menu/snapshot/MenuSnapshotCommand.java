@@ -0,0 +1,7 @@
+package com.cafe.menu.snapshot;
+
+public enum MenuSnapshotCommand {
+    NONE,
+    EXPORT,
+    IMPORT
+}
@@ -0,0 +1,44 @@
+package com.cafe.menu.snapshot;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Component
+@RequiredArgsConstructor
+public class MenuSnapshotCommandRunner implements ApplicationRunner {
+    private final MenuSnapshotService menuSnapshotService;
+    private final MenuSnapshotProperties properties;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (properties.command() == MenuSnapshotCommand.NONE) {
+            return;
+        }
+
+        var file = Path.of(properties.file());
+        if (properties.command() == MenuSnapshotCommand.EXPORT) {
+            try (var outputStream = new BufferedOutputStream(Files.newOutputStream(file))) {
+                menuSnapshotService.exportMenus(outputStream);
+            }
+        } else {
+            try (var inputStream = new BufferedInputStream(Files.newInputStream(file))) {
+                var result = menuSnapshotService.importMenus(inputStream, properties.upsert());
+                if (result.failedLine() != null) {
+                    throw new IllegalStateException("Menu snapshot import stopped at malformed line " + result.failedLine());
+                }
+            }
+        }
+
+        System.exit(SpringApplication.exit(applicationContext));
+    }
+}
@@ -0,0 +1,11 @@
+package com.cafe.menu.snapshot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("cafe.menu.snapshot")
+public record MenuSnapshotProperties(@DefaultValue("none") MenuSnapshotCommand command,
+                                     @DefaultValue("menus.ndjson") String file,
+                                     @DefaultValue("false") boolean upsert,
+                                     @DefaultValue("1000") int fetchSize) {
+}
@@ -0,0 +1,4 @@
+package com.cafe.menu.snapshot;
+
+public record MenuSnapshotRecord(Long id, String name, Integer price) {
+}
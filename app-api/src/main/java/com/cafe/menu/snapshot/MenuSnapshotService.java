@@ -0,0 +1,112 @@
+package com.cafe.menu.snapshot;
+
+import com.cafe.menu.controller.dto.BulkUpsertMenuResponse;
+import com.cafe.menu.controller.dto.CreateMenuRequest;
+import com.cafe.menu.controller.dto.MenuSnapshotImportResponse;
+import com.cafe.menu.service.MenuBulkProperties;
+import com.cafe.menu.service.MenuWriteService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class MenuSnapshotService {
+    private static final String EXPORT_SQL = "select id, name, price from menu order by id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MenuWriteService menuWriteService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final MenuSnapshotProperties properties;
+    private final MenuBulkProperties bulkProperties;
+
+    @Transactional(readOnly = true)
+    public long exportMenus(OutputStream outputStream) throws IOException {
+        var exported = new long[1];
+        try (var generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
+            jdbcTemplate.query(this::prepareExport, resultSet -> {
+                try {
+                    generator.writeObject(new MenuSnapshotRecord(resultSet.getLong(1), resultSet.getString(2), (Integer) resultSet.getObject(3)));
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                exported[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        return exported[0];
+    }
+
+    public MenuSnapshotImportResponse importMenus(InputStream inputStream, boolean upsert) throws IOException {
+        var counts = new long[BulkUpsertMenuResponse.Result.values().length];
+        var invalid = 0L;
+        var read = 0;
+        var batchSize = bulkProperties.batchSize();
+        var chunk = new ArrayList<CreateMenuRequest>(batchSize);
+        Integer failedLine = null;
+
+        try (var records = objectMapper.readerFor(MenuSnapshotRecord.class).<MenuSnapshotRecord>readValues(inputStream)) {
+            while (records.hasNextValue()) {
+                var record = records.nextValue();
+                read++;
+                var request = new CreateMenuRequest(record.name(), record.price());
+                if (!validator.validate(request).isEmpty()) {
+                    invalid++;
+                    continue;
+                }
+
+                chunk.add(request);
+                if (chunk.size() == batchSize) {
+                    upsert(chunk, upsert, counts);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            var location = e.getLocation();
+            failedLine = location != null && location.getLineNr() > 0 ? location.getLineNr() : read + 1;
+        }
+
+        if (!chunk.isEmpty()) {
+            upsert(chunk, upsert, counts);
+        }
+
+        return new MenuSnapshotImportResponse(counts[BulkUpsertMenuResponse.Result.CREATED.ordinal()],
+                                              counts[BulkUpsertMenuResponse.Result.UPDATED.ordinal()],
+                                              counts[BulkUpsertMenuResponse.Result.CONFLICT.ordinal()],
+                                              invalid,
+                                              failedLine);
+    }
+
+    private void upsert(List<CreateMenuRequest> chunk, boolean upsert, long[] counts) {
+        menuWriteService.upsertMenus(chunk, upsert)
+                        .menus()
+                        .forEach(item -> counts[item.result().ordinal()]++);
+        chunk.clear();
+    }
+
+    private PreparedStatement prepareExport(Connection connection) throws SQLException {
+        var statement = connection.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(properties.fetchSize());
+
+        return statement;
+    }
+}
@@ -0,0 +1,52 @@
+package com.cafe.config;
+
+import com.cafe.db.datasource.RoutingDataSourceConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AotConditionVerifierTest {
+    @Test
+    @DisplayName("AOT 빌드 때와 같은 설정으로 실행하면 통과한다")
+    void passWhenConditionsMatchBuild() {
+        // given
+        var beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("routingDataSourceConfig", new RootBeanDefinition(RoutingDataSourceConfig.class));
+        var environment = new MockEnvironment().withProperty("cafe.datasource.routing.enabled", "true");
+
+        // when & then
+        assertThatCode(() -> AotConditionVerifier.verify(environment, beanFactory)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("AOT 빌드 때 꺼져 있던 설정을 켜고 실행하면 예외를 발생시킨다")
+    void failWhenConditionEnabledAfterBuild() {
+        // given
+        var beanFactory = new DefaultListableBeanFactory();
+        var environment = new MockEnvironment().withProperty("cafe.threads.virtual.enabled", "true");
+
+        // when & then
+        assertThatThrownBy(() -> AotConditionVerifier.verify(environment, beanFactory))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("cafe.threads.virtual.enabled");
+    }
+
+    @Test
+    @DisplayName("AOT 빌드 때 켜져 있던 설정을 끄고 실행하면 예외를 발생시킨다")
+    void failWhenConditionDisabledAfterBuild() {
+        // given
+        var beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("routingDataSourceConfig", new RootBeanDefinition(RoutingDataSourceConfig.class));
+        var environment = new MockEnvironment();
+
+        // when & then
+        assertThatThrownBy(() -> AotConditionVerifier.verify(environment, beanFactory))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("cafe.datasource.routing.enabled");
+    }
+}
@@ -0,0 +1,58 @@
+package com.cafe.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.datasource.hikari.pool-name=hikari-metrics-test")
+class HikariPoolMetricsTest {
+    private static final String POOL_NAME = "hikari-metrics-test";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("프로필별 커넥션 풀 설정을 적용한다")
+    void applyProfilePoolSettings() throws Exception {
+        // when
+        var hikariDataSource = dataSource.unwrap(HikariDataSource.class);
+
+        // then
+        assertThat(hikariDataSource.getPoolName()).isEqualTo(POOL_NAME);
+        assertThat(hikariDataSource.getMaximumPoolSize()).isEqualTo(5);
+        assertThat(hikariDataSource.getMinimumIdle()).isEqualTo(5);
+        assertThat(hikariDataSource.getConnectionTimeout()).isEqualTo(Duration.ofSeconds(3).toMillis());
+    }
+
+    @Test
+    @DisplayName("커넥션 풀의 활성, 유휴, 대기 커넥션 수와 획득 시간을 기록한다")
+    void recordPoolMetrics() throws Exception {
+        // given
+        try (var connection = dataSource.getConnection()) {
+            // when
+            var active = meterRegistry.get("hikaricp.connections.active").tag("pool", POOL_NAME).gauge();
+
+            // then
+            assertThat(connection.isClosed()).isFalse();
+            assertThat(active.value()).isGreaterThanOrEqualTo(1);
+        }
+
+        assertThat(meterRegistry.get("hikaricp.connections.idle").tag("pool", POOL_NAME).gauge()).isNotNull();
+        assertThat(meterRegistry.get("hikaricp.connections.pending").tag("pool", POOL_NAME).gauge().value()).isZero();
+        assertThat(meterRegistry.get("hikaricp.connections.max").tag("pool", POOL_NAME).gauge().value()).isEqualTo(5);
+        assertThat(meterRegistry.get("hikaricp.connections.acquire").tag("pool", POOL_NAME).timer().count()).isPositive();
+    }
+}
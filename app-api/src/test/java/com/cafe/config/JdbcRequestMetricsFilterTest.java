@@ -0,0 +1,81 @@
+package com.cafe.config;
+
+import com.cafe.domain.menu.Menu;
+import com.cafe.menu.cache.MenuCache;
+import com.cafe.repository.MenuRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest
+class JdbcRequestMetricsFilterTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuCache menuCache;
+
+    @AfterEach
+    void tearDown() {
+        menuRepository.deleteAllInBatch();
+        menuCache.invalidateAll();
+        meterRegistry.clear();
+    }
+
+    @Test
+    @DisplayName("요청마다 실행한 SQL 구문 수와 JDBC 시간을 엔드포인트별로 기록한다")
+    void recordJdbcStatementsPerRequest() throws Exception {
+        // given
+        menuRepository.save(Menu.create("아메리카노", 3000));
+
+        // when
+        mockMvc.perform(get("/api/v1/menus"))
+               .andExpect(status().isOk());
+
+        // then
+        var statements = meterRegistry.get(JdbcRequestMetricsFilter.STATEMENTS_METRIC_NAME)
+                                       .tag("uri", "/api/v1/menus")
+                                       .tag("outcome", "SUCCESS")
+                                       .summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get(JdbcRequestMetricsFilter.TIME_METRIC_NAME)
+                                .tag("uri", "/api/v1/menus")
+                                .timer()
+                                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예외로 처리된 요청은 예외 이름과 함께 지연 시간이 기록된다")
+    void recordExceptionOutcome() throws Exception {
+        // when
+        mockMvc.perform(get("/api/v1/menu/{menuId}", 1L))
+               .andExpect(status().isNotFound());
+
+        // then
+        var timer = meterRegistry.get("http.server.requests")
+                                 .tag("uri", "/api/v1/menu/{menuId}")
+                                 .tag("exception", "NotFoundException")
+                                 .tag("outcome", "CLIENT_ERROR")
+                                 .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,64 @@
+package com.cafe.config;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+    private final RequestReadYourWritesTracker tracker = new RequestReadYourWritesTracker();
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(tracker, Duration.ofSeconds(1));
+
+    @Test
+    @DisplayName("요청한 클라이언트의 마지막 쓰기 시각을 쿠키에서 읽는다")
+    void readLastWriteFromCookie() throws Exception {
+        // given
+        var request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, "1000"));
+        var lastWriteMillis = new AtomicLong();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                lastWriteMillis.set(tracker.lastWriteMillis());
+            }
+        });
+
+        // then
+        assertThat(lastWriteMillis.get()).isEqualTo(1000L);
+        assertThat(tracker.lastWriteMillis()).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기가 기록되면 그 클라이언트에게만 쓰기 시각 쿠키를 내려준다")
+    void writeCookieAfterWrite() throws Exception {
+        // given
+        var writer = new MockHttpServletResponse();
+        var reader = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest(), writer, new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                tracker.recordWrite(2000L);
+            }
+        });
+        filter.doFilter(new MockHttpServletRequest(), reader, new MockFilterChain());
+
+        // then
+        assertThat(writer.getHeader(HttpHeaders.SET_COOKIE)).startsWith(ReadYourWritesFilter.COOKIE_NAME + "=2000;")
+                                                            .contains("Max-Age=1");
+        assertThat(reader.getHeader(HttpHeaders.SET_COOKIE)).isNull();
+    }
+}
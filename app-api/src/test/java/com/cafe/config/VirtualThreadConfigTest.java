@@ -0,0 +1,53 @@
+package com.cafe.config;
+
+import com.cafe.db.datasource.ConnectionLimitingDataSource;
+import com.cafe.db.datasource.JdbcExecutionTrackingDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class VirtualThreadConfigTest {
+    private final BeanPostProcessor postProcessor = VirtualThreadConfig.connectionLimitingDataSourcePostProcessor(propertiesProvider());
+
+    @Test
+    @DisplayName("JDBC 실행을 추적하는 데이터소스도 연결 수를 제한한다")
+    void limitTrackingDataSource() {
+        // given
+        var dataSource = new JdbcExecutionTrackingDataSource(mock(DataSource.class), elapsedNanos -> {
+        });
+
+        // when
+        var result = postProcessor.postProcessAfterInitialization(dataSource, "dataSource");
+
+        // then
+        assertThat(result).isInstanceOf(ConnectionLimitingDataSource.class);
+    }
+
+    @Test
+    @DisplayName("이미 연결 수를 제한하는 데이터소스는 다시 감싸지 않는다")
+    void skipLimitedDataSource() {
+        // given
+        var dataSource = new ConnectionLimitingDataSource(mock(DataSource.class), 2, Duration.ofSeconds(1));
+
+        // when
+        var result = postProcessor.postProcessAfterInitialization(dataSource, "dataSource");
+
+        // then
+        assertThat(result).isSameAs(dataSource);
+    }
+
+    private static ObjectProvider<VirtualThreadProperties> propertiesProvider() {
+        var beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("virtualThreadProperties", new VirtualThreadProperties(true, 2, Duration.ofSeconds(1)));
+
+        return beanFactory.getBeanProvider(VirtualThreadProperties.class);
+    }
+}
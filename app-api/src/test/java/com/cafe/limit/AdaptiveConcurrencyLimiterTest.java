@@ -0,0 +1,61 @@
+package com.cafe.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(1);
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+            new ConcurrencyLimitProperties(true, 4, 2, 8, Duration.ofMillis(500), 0.5, Set.of()));
+
+    @Test
+    @DisplayName("동시 처리 한도를 넘는 요청은 거절한다")
+    void rejectOverLimit() {
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        // then
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("지연 시간이 임계값을 넘으면 한도를 최솟값까지 줄인다")
+    void decreaseLimitOnSlowResponses() {
+        // given
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        // when
+        limiter.release(SLOW);
+        limiter.release(SLOW);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("한도를 충분히 사용하면서 빠르게 응답하면 한도를 최댓값까지 늘린다")
+    void increaseLimitOnFastResponsesUnderLoad() {
+        // when
+        for (int i = 0; i < 10; i++) {
+            while (limiter.tryAcquire()) {
+            }
+            limiter.release(FAST);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(8);
+    }
+}
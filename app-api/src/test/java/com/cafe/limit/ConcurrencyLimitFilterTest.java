@@ -0,0 +1,65 @@
+package com.cafe.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+    private final ConcurrencyLimitProperties properties =
+            new ConcurrencyLimitProperties(true, 4, 2, 8, Duration.ZERO, 0.5, Set.of("/api/v1/menu/snapshot"));
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, properties, new ObjectMapper(), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("일반 요청은 지연 시간을 반영해 한도를 조정한다")
+    void measureRegularRequest() throws Exception {
+        // given
+        var request = new MockHttpServletRequest("GET", "/api/v1/menus");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기로 응답하는 요청은 지연 시간을 반영하지 않는다")
+    void skipAsyncRequest() throws Exception {
+        // given
+        var request = new MockHttpServletRequest("GET", "/api/v1/menu/changes");
+        request.setAsyncSupported(true);
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("오래 걸리도록 설계된 경로는 지연 시간을 반영하지 않는다")
+    void skipUnmeasuredPath() throws Exception {
+        // given
+        var request = new MockHttpServletRequest("POST", "/api/v1/menu/snapshot");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
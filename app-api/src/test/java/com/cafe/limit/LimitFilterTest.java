@@ -0,0 +1,168 @@
+package com.cafe.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "cafe.limit.rate.enabled=true",
+        "cafe.limit.rate.trusted-proxies=127[.]0[.]0[.]1|10[.]0[.]0[.][0-9]+",
+        "cafe.limit.rate.client-key-header=X-Client-Id",
+        "cafe.limit.rate.write-permits-per-second=1",
+        "cafe.limit.rate.write-burst=1",
+        "cafe.limit.concurrency.enabled=true"
+})
+class LimitFilterTest {
+    private static final String UPDATE_MENU_BODY = """
+            {"id": 1, "name": "아메리카노", "price": 3000, "version": 0}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Nested
+    @DisplayName("요청 속도 제한 테스트")
+    class RateLimitTest {
+        @Test
+        @DisplayName("클라이언트의 쓰기 요청이 허용량을 넘으면 429와 오류 응답을 반환한다")
+        void rejectWithTooManyRequests() throws Exception {
+            // given
+            mockMvc.perform(get("/api/v1/menus").header("X-Client-Id", "spammer"));
+            var first = mockMvc.perform(patch("/api/v1/menu")
+                                                .header("X-Client-Id", "spammer")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(UPDATE_MENU_BODY))
+                               .andReturn();
+
+            // when
+            var result = mockMvc.perform(patch("/api/v1/menu")
+                                                 .header("X-Client-Id", "spammer")
+                                                 .contentType(MediaType.APPLICATION_JSON)
+                                                 .content(UPDATE_MENU_BODY));
+
+            // then
+            assertThat(first.getResponse().getStatus()).isNotEqualTo(429);
+            result.andExpect(status().isTooManyRequests())
+                  .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                  .andExpect(jsonPath("$.success").value(false))
+                  .andExpect(jsonPath("$.code").value("TOO_MANY_REQUESTS"));
+        }
+
+        @Test
+        @DisplayName("다른 클라이언트와 읽기 요청은 제한에 영향을 받지 않는다")
+        void isolateClients() throws Exception {
+            // given
+            for (int i = 0; i < 2; i++) {
+                mockMvc.perform(patch("/api/v1/menu")
+                                        .header("X-Client-Id", "noisy")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(UPDATE_MENU_BODY));
+            }
+
+            // when
+            var otherClient = mockMvc.perform(patch("/api/v1/menu")
+                                                      .header("X-Client-Id", "quiet")
+                                                      .contentType(MediaType.APPLICATION_JSON)
+                                                      .content(UPDATE_MENU_BODY))
+                                     .andReturn();
+            var read = mockMvc.perform(get("/api/v1/menus").header("X-Client-Id", "noisy"));
+
+            // then
+            assertThat(otherClient.getResponse().getStatus()).isNotEqualTo(429);
+            read.andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("신뢰하는 프록시 뒤의 클라이언트는 X-Forwarded-For 의 실제 주소별로 제한한다")
+        void limitByForwardedClientBehindProxy() throws Exception {
+            // given
+            writeFrom("10.0.0.1", "X-Forwarded-For", "198.51.100.1");
+
+            // when
+            var sameClient = writeFrom("10.0.0.2", "X-Forwarded-For", "203.0.113.9, 198.51.100.1, 10.0.0.1");
+            var otherClient = writeFrom("10.0.0.1", "X-Forwarded-For", "198.51.100.2");
+
+            // then
+            assertThat(sameClient).isEqualTo(429);
+            assertThat(otherClient).isNotEqualTo(429);
+        }
+
+        @Test
+        @DisplayName("직접 접속한 클라이언트는 헤더를 바꿔도 같은 제한을 받는다")
+        void ignoreSpoofedHeadersFromUntrustedClient() throws Exception {
+            // given
+            writeFrom("203.0.113.7", "X-Client-Id", "first");
+
+            // when
+            var spoofedClientId = writeFrom("203.0.113.7", "X-Client-Id", "second");
+            var spoofedForwardedFor = writeFrom("203.0.113.7", "X-Forwarded-For", "198.51.100.77");
+
+            // then
+            assertThat(spoofedClientId).isEqualTo(429);
+            assertThat(spoofedForwardedFor).isEqualTo(429);
+        }
+    }
+
+    private int writeFrom(String remoteAddr, String headerName, String headerValue) throws Exception {
+        return mockMvc.perform(patch("/api/v1/menu")
+                                       .with(request -> {
+                                           request.setRemoteAddr(remoteAddr);
+                                           return request;
+                                       })
+                                       .header(headerName, headerValue)
+                                       .contentType(MediaType.APPLICATION_JSON)
+                                       .content(UPDATE_MENU_BODY))
+                      .andReturn()
+                      .getResponse()
+                      .getStatus();
+    }
+
+    @Nested
+    @DisplayName("동시 처리 제한 테스트")
+    class ConcurrencyLimitTest {
+        @Test
+        @DisplayName("동시 처리 한도가 가득 차면 503과 오류 응답을 반환한다")
+        void rejectWithServiceUnavailable() throws Exception {
+            // given
+            var acquired = 0;
+            while (concurrencyLimiter.tryAcquire()) {
+                acquired++;
+            }
+
+            try {
+                // when
+                var result = mockMvc.perform(get("/api/v1/menus").header("X-Client-Id", "concurrency"));
+
+                // then
+                result.andExpect(status().isServiceUnavailable())
+                      .andExpect(jsonPath("$.success").value(false))
+                      .andExpect(jsonPath("$.code").value("SERVICE_UNAVAILABLE"));
+            } finally {
+                for (int i = 0; i < acquired; i++) {
+                    concurrencyLimiter.release(TimeUnit.MILLISECONDS.toNanos(1));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.cafe.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+    private final AtomicLong now = new AtomicLong(-TimeUnit.HOURS.toNanos(1));
+    private final TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(
+            new RateLimitProperties(true, "", "", 10, 20, 1, 2, 1000, Duration.ofMinutes(10)), now::get);
+
+    @Test
+    @DisplayName("버스트 크기만큼은 즉시 허용하고 이후 요청은 다음 토큰까지 남은 시간을 알려준다")
+    void rejectAfterBurst() {
+        // when
+        var first = rateLimiter.tryAcquire("client", true);
+        var second = rateLimiter.tryAcquire("client", true);
+        var third = rateLimiter.tryAcquire("client", true);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 허용량만큼 토큰이 다시 채워진다")
+    void refillOverTime() {
+        // given
+        rateLimiter.tryAcquire("client", true);
+        rateLimiter.tryAcquire("client", true);
+
+        // when
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        // then
+        assertThat(rateLimiter.tryAcquire("client", true)).isZero();
+        assertThat(rateLimiter.tryAcquire("client", true)).isPositive();
+    }
+
+    @Test
+    @DisplayName("클라이언트별, 읽기와 쓰기별로 버킷을 따로 관리한다")
+    void separateBucketsPerClientAndMethod() {
+        // given
+        rateLimiter.tryAcquire("client", true);
+        rateLimiter.tryAcquire("client", true);
+
+        // when
+        var otherClient = rateLimiter.tryAcquire("other", true);
+        var read = rateLimiter.tryAcquire("client", false);
+
+        // then
+        assertThat(otherClient).isZero();
+        assertThat(read).isZero();
+    }
+}
@@ -0,0 +1,44 @@
+package com.cafe.menu.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EncodedResponseBodyTest {
+    private final EncodedResponseBody body = new EncodedResponseBody(new byte[]{1}, new byte[]{2});
+
+    @Nested
+    @DisplayName("gzip 허용 여부 테스트")
+    class AcceptsGzipTest {
+        @Test
+        @DisplayName("Accept-Encoding 에 gzip 이나 * 가 있으면 허용한다")
+        void acceptsGzip() {
+            // when & then
+            assertThat(body.acceptsGzip("gzip")).isTrue();
+            assertThat(body.acceptsGzip("br, GZIP;q=0.8")).isTrue();
+            assertThat(body.acceptsGzip("*")).isTrue();
+        }
+
+        @Test
+        @DisplayName("Accept-Encoding 이 없거나 gzip 의 q 가 0 이면 허용하지 않는다")
+        void notAcceptsGzip() {
+            // when & then
+            assertThat(body.acceptsGzip(null)).isFalse();
+            assertThat(body.acceptsGzip("br, deflate")).isFalse();
+            assertThat(body.acceptsGzip("gzip;q=0")).isFalse();
+            assertThat(body.acceptsGzip("gzip; q=0.000, identity")).isFalse();
+        }
+
+        @Test
+        @DisplayName("압축본이 없으면 허용하지 않는다")
+        void notAcceptsGzipWhenNotCompressed() {
+            // given
+            var uncompressed = new EncodedResponseBody(new byte[]{1}, null);
+
+            // when & then
+            assertThat(uncompressed.acceptsGzip("gzip")).isFalse();
+        }
+    }
+}
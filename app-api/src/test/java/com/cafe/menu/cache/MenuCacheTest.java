@@ -0,0 +1,164 @@
+package com.cafe.menu.cache;
+
+import com.cafe.exception.ServiceUnavailableException;
+import com.cafe.menu.controller.dto.GetMenuResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MenuCacheTest {
+    private static final Long MENU_ID = 1L;
+    private static final GetMenuResponse MENU = new GetMenuResponse(MENU_ID, "아메리카노", 3000, 0L);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("동시 조회 병합 테스트")
+    class CoalesceTest {
+        @Test
+        @DisplayName("같은 메뉴를 동시에 조회하면 한 번만 적재하고 결과를 공유한다")
+        void loadOnceForConcurrentMisses() throws Exception {
+            // given
+            var menuCache = newMenuCache(Duration.ofSeconds(5));
+            var results = new ArrayList<Future<Optional<GetMenuResponse>>>();
+            results.add(executor.submit(() -> menuCache.get(MENU_ID, id -> blockingLoad(MENU))));
+            loading.await();
+
+            // when
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> menuCache.get(MENU_ID, id -> blockingLoad(MENU))));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            for (var result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).contains(MENU);
+            }
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("여러 메뉴 조회는 진행 중인 단건 적재에 합류하고 나머지만 적재한다")
+        void joinInFlightLoadOnBatchGet() throws Exception {
+            // given
+            var menuCache = newMenuCache(Duration.ofSeconds(5));
+            var single = executor.submit(() -> menuCache.get(MENU_ID, id -> blockingLoad(MENU)));
+            loading.await();
+            var batchLoadedIds = new ArrayList<Long>();
+
+            // when
+            var batch = executor.submit(() -> menuCache.getAll(List.of(MENU_ID, 2L), ids -> {
+                batchLoadedIds.addAll(ids);
+                return Map.of(2L, Optional.<GetMenuResponse>empty());
+            }));
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            assertThat(batch.get(5, TimeUnit.SECONDS)).containsEntry(MENU_ID, Optional.of(MENU))
+                                                      .containsEntry(2L, Optional.empty());
+            assertThat(single.get(5, TimeUnit.SECONDS)).contains(MENU);
+            assertThat(batchLoadedIds).containsExactly(2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("적재 실패 테스트")
+    class LoadFailureTest {
+        @Test
+        @DisplayName("적재가 실패하면 기다리던 요청에도 같은 예외를 전달하고 다음 조회에서 다시 적재한다")
+        void propagateFailureToWaiters() throws Exception {
+            // given
+            var menuCache = newMenuCache(Duration.ofSeconds(5));
+            var failure = new IllegalStateException("db down");
+            var owner = executor.submit(() -> menuCache.get(MENU_ID, id -> {
+                blockingLoad(MENU);
+                throw failure;
+            }));
+            loading.await();
+            var waiter = executor.submit(() -> menuCache.get(MENU_ID, id -> blockingLoad(MENU)));
+            Thread.sleep(100);
+
+            // when
+            release.countDown();
+
+            // then
+            assertThatThrownBy(() -> owner.get(5, TimeUnit.SECONDS)).hasCause(failure);
+            assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).hasCause(failure);
+            assertThat(menuCache.get(MENU_ID, id -> Optional.of(MENU))).contains(MENU);
+        }
+
+        @Test
+        @DisplayName("적재가 제한 시간 안에 끝나지 않으면 기다리던 요청은 503 예외로 끝난다")
+        void timeoutWaiters() throws Exception {
+            // given
+            var menuCache = newMenuCache(Duration.ofMillis(100));
+            executor.submit(() -> menuCache.get(MENU_ID, id -> blockingLoad(MENU)));
+            loading.await();
+
+            // when, then
+            assertThatThrownBy(() -> menuCache.get(MENU_ID, id -> Optional.of(MENU)))
+                    .isInstanceOf(ServiceUnavailableException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("적재 중에 무효화된 메뉴는 적재 결과를 캐시에 남기지 않는다")
+    void discardLoadInvalidatedInFlight() throws Exception {
+        // given
+        var menuCache = newMenuCache(Duration.ofSeconds(5));
+        var stale = executor.submit(() -> menuCache.get(MENU_ID, id -> blockingLoad(MENU)));
+        loading.await();
+
+        // when
+        menuCache.invalidate(MENU_ID);
+        release.countDown();
+        stale.get(5, TimeUnit.SECONDS);
+
+        // then
+        var updated = new GetMenuResponse(MENU_ID, "아메리카노", 3500, 1L);
+        assertThat(menuCache.get(MENU_ID, id -> Optional.of(updated))).contains(updated);
+    }
+
+    private MenuCache newMenuCache(Duration loadTimeout) {
+        return new MenuCache(new MenuCacheProperties(100, Duration.ofMinutes(10), Duration.ofSeconds(30), loadTimeout, 100));
+    }
+
+    private Optional<GetMenuResponse> blockingLoad(GetMenuResponse menu) {
+        loads.incrementAndGet();
+        loading.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return Optional.of(menu);
+    }
+}
@@ -1,13 +1,32 @@
 package com.cafe.menu.controller;
 
 import com.cafe.enums.ErrorCode;
+import com.cafe.exception.BadRequestException;
+import com.cafe.exception.ConflictException;
 import com.cafe.exception.NotFoundException;
+import com.cafe.exception.ServiceUnavailableException;
+import com.cafe.menu.controller.dto.BulkUpsertMenuRequest;
+import com.cafe.menu.controller.dto.BulkUpsertMenuResponse;
 import com.cafe.menu.controller.dto.CreateMenuRequest;
+import com.cafe.menu.controller.dto.DeleteMenusResponse;
+import com.cafe.menu.controller.dto.GetMenuPageResponse;
 import com.cafe.menu.controller.dto.GetMenuResponse;
+import com.cafe.menu.controller.dto.GetMenusResponse;
+import com.cafe.menu.controller.dto.MenuPriceUpdateResponse;
+import com.cafe.menu.controller.dto.MenuSnapshotImportResponse;
+import com.cafe.menu.controller.dto.UpdateMenuPriceRequest;
 import com.cafe.menu.controller.dto.UpdateMenuRequest;
+import com.cafe.menu.price.MenuPriceUpdateQueue;
+import com.cafe.menu.price.MenuPriceUpdateStatus;
+import com.cafe.menu.service.MenuPage;
 import com.cafe.menu.service.MenuReadService;
+import com.cafe.menu.service.MenuSearchService;
+import com.cafe.menu.service.MenuValidator;
 import com.cafe.menu.service.MenuWriteService;
+import com.cafe.menu.snapshot.MenuSnapshotService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -17,17 +36,41 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.http.MediaType.APPLICATION_CBOR;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -37,6 +80,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest
 //@WebMvcTest
 class MenuControllerTest {
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
     @Autowired
     private MockMvc mockMvc;
     @Autowired
@@ -45,6 +90,12 @@ class MenuControllerTest {
     private MenuWriteService menuWriteService;
     @MockBean
     private MenuReadService menuReadService;
+    @MockBean
+    private MenuSearchService menuSearchService;
+    @MockBean
+    private MenuPriceUpdateQueue menuPriceUpdateQueue;
+    @MockBean
+    private MenuSnapshotService menuSnapshotService;
 
     @Nested
     @DisplayName("메뉴 생성 테스트")
@@ -136,6 +187,121 @@ class MenuControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("메뉴 일괄 저장 테스트")
+    class UpsertMenusTest {
+        private final String testApiPath = "/api/v1/menu/bulk";
+
+        @Test
+        @DisplayName("메뉴를 일괄 저장한다")
+        void upsertMenusSuccess() throws Exception {
+            // given
+            var requestDto = new BulkUpsertMenuRequest(List.of(new CreateMenuRequest("아메리카노", 3000),
+                                                               new CreateMenuRequest("라떼", 4000)), false);
+            var requestBody = objectMapper.writeValueAsString(requestDto);
+
+            given(menuWriteService.upsertMenus(any(), anyBoolean()))
+                    .willReturn(new BulkUpsertMenuResponse(List.of(new BulkUpsertMenuResponse.Item(0, "아메리카노", 1L, BulkUpsertMenuResponse.Result.CREATED),
+                                                                   new BulkUpsertMenuResponse.Item(1, "라떼", 2L, BulkUpsertMenuResponse.Result.CONFLICT))));
+
+            // when & then
+            mockMvc.perform(post(testApiPath).contentType(APPLICATION_JSON).content(requestBody))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$.success").value(true))
+                   .andExpect(jsonPath("$.message").value("메뉴가 일괄 저장되었습니다."))
+                   .andExpect(jsonPath("$.code").value("OK"))
+                   .andExpect(jsonPath("$.data.menus[0].result").value("CREATED"))
+                   .andExpect(jsonPath("$.data.menus[1].result").value("CONFLICT"))
+                   .andExpect(jsonPath("$.validation").isEmpty());
+        }
+
+        @Test
+        @DisplayName("메뉴 중 하나라도 가격이 500원 보다 낮으면 실패한다")
+        void upsertMenusFailWhenPriceLessThan500() throws Exception {
+            // given
+            var requestDto = new BulkUpsertMenuRequest(List.of(new CreateMenuRequest("아메리카노", 3000),
+                                                               new CreateMenuRequest("라떼", 100)), false);
+            var requestBody = objectMapper.writeValueAsString(requestDto);
+
+            // when & then
+            mockMvc.perform(post(testApiPath).contentType(APPLICATION_JSON).content(requestBody))
+                   .andExpect(status().isBadRequest())
+                   .andExpect(jsonPath("$.success").value(false))
+                   .andExpect(jsonPath("$.message").value("잘못된 요청입니다"))
+                   .andExpect(jsonPath("$.code").value("BAD_REQUEST"))
+                   .andExpect(jsonPath("$.data").isEmpty())
+                   .andExpect(jsonPath("$.validation['menus[1].price']").value("메뉴의 가격을 확인해주세요"));
+        }
+    }
+
+    @Nested
+    @DisplayName("메뉴 스냅샷 테스트")
+    class MenuSnapshotTest {
+        private final String testApiPath = "/api/v1/menu/snapshot";
+
+        @Test
+        @DisplayName("메뉴 스냅샷을 NDJSON 파일로 내려받는다")
+        void exportMenuSnapshot() throws Exception {
+            // given
+            var snapshot = "{\"id\":1,\"name\":\"아메리카노\",\"price\":3000}\n";
+            given(menuSnapshotService.exportMenus(any())).willAnswer(invocation -> {
+                invocation.<OutputStream>getArgument(0).write(snapshot.getBytes(StandardCharsets.UTF_8));
+                return 1L;
+            });
+
+            // when
+            var result = mockMvc.perform(get(testApiPath))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                   .andExpect(status().isOk())
+                   .andExpect(content().contentType(APPLICATION_NDJSON))
+                   .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"menus.ndjson\""))
+                   .andExpect(content().bytes(snapshot.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        @Test
+        @DisplayName("메뉴 스냅샷을 가져온다")
+        void importMenuSnapshot() throws Exception {
+            // given
+            given(menuSnapshotService.importMenus(any(), anyBoolean()))
+                    .willReturn(new MenuSnapshotImportResponse(2, 1, 0, 1, null));
+
+            // when & then
+            mockMvc.perform(post(testApiPath).param("upsert", "true")
+                                             .contentType(APPLICATION_NDJSON)
+                                             .content("{\"id\":1,\"name\":\"아메리카노\",\"price\":3000}\n"))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$.success").value(true))
+                   .andExpect(jsonPath("$.message").value("메뉴 스냅샷을 가져왔습니다."))
+                   .andExpect(jsonPath("$.data.created").value(2))
+                   .andExpect(jsonPath("$.data.updated").value(1))
+                   .andExpect(jsonPath("$.data.invalid").value(1));
+
+            verify(menuSnapshotService).importMenus(any(), eq(true));
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 줄이 있으면 400과 함께 그 전까지 가져온 결과와 줄 번호를 응답한다")
+        void importMenuSnapshotWhenMalformed() throws Exception {
+            // given
+            given(menuSnapshotService.importMenus(any(), anyBoolean()))
+                    .willReturn(new MenuSnapshotImportResponse(1, 0, 0, 0, 2));
+
+            // when & then
+            mockMvc.perform(post(testApiPath).contentType(APPLICATION_NDJSON)
+                                             .content("{\"id\":1,\"name\":\"아메리카노\",\"price\":3000}\n{\"id\":2,\"name\":\n"))
+                   .andExpect(status().isBadRequest())
+                   .andExpect(jsonPath("$.success").value(false))
+                   .andExpect(jsonPath("$.code").value(ErrorCode.BAD_REQUEST.getCode()))
+                   .andExpect(jsonPath("$.message").value("2번째 줄의 형식이 잘못되어 이전 줄까지만 가져왔습니다."))
+                   .andExpect(jsonPath("$.data.created").value(1))
+                   .andExpect(jsonPath("$.data.failedLine").value(2));
+        }
+    }
+
     @Nested
     @DisplayName("메뉴 수정 테스트")
     class UpdateMenuTest {
@@ -149,12 +315,12 @@ class MenuControllerTest {
             String menu = "아메리카노";
             Integer price = 3000;
 
-            var requestDto = new UpdateMenuRequest(id, menu, price);
+            var requestDto = new UpdateMenuRequest(id, menu, price, null);
             var requestBody = objectMapper.writeValueAsString(requestDto);
 
             Long updatedMenuId = 1L;
 
-            given(menuWriteService.updateMenu(any(), any(), any())).willReturn(updatedMenuId);
+            given(menuWriteService.updateMenu(any(), any(), any(), any())).willReturn(updatedMenuId);
 
             // when & then
             mockMvc.perform(patch(testApiPath).contentType(APPLICATION_JSON).content(requestBody))
@@ -174,10 +340,10 @@ class MenuControllerTest {
             String menu = "아메리카노";
             Integer price = 3000;
 
-            var requestDto = new UpdateMenuRequest(id, menu, price);
+            var requestDto = new UpdateMenuRequest(id, menu, price, null);
             var requestBody = objectMapper.writeValueAsString(requestDto);
 
-            given(menuWriteService.updateMenu(any(), any(), any()))
+            given(menuWriteService.updateMenu(any(), any(), any(), any()))
                     .willThrow(new NotFoundException(ErrorCode.NOT_FOUND.getMessage(), ErrorCode.NOT_FOUND.getCode(), ErrorCode.NOT_FOUND.getStatus()));
 
             // when & then
@@ -190,6 +356,26 @@ class MenuControllerTest {
                    .andExpect(jsonPath("$.validation").isEmpty());
         }
 
+        @Test
+        @DisplayName("다른 요청이 먼저 메뉴를 수정했으면 요청이 실패한다")
+        void updateMenuWhenVersionConflicts() throws Exception {
+            // given
+            var requestDto = new UpdateMenuRequest(1L, "아메리카노", 3000, 3L);
+            var requestBody = objectMapper.writeValueAsString(requestDto);
+
+            given(menuWriteService.updateMenu(any(), any(), any(), any()))
+                    .willThrow(new ConflictException(ErrorCode.CONFLICT.getMessage(), ErrorCode.CONFLICT.getCode(), ErrorCode.CONFLICT.getStatus()));
+
+            // when & then
+            mockMvc.perform(patch(testApiPath).contentType(APPLICATION_JSON).content(requestBody))
+                   .andExpect(status().isConflict())
+                   .andExpect(jsonPath("$.success").value(false))
+                   .andExpect(jsonPath("$.message").value("다른 요청에 의해 자원이 변경되었습니다"))
+                   .andExpect(jsonPath("$.code").value("CONFLICT"))
+                   .andExpect(jsonPath("$.data").isEmpty())
+                   .andExpect(jsonPath("$.validation").isEmpty());
+        }
+
         @Test
         @DisplayName("id가 null일 경우 요청이 실패한다")
         void updateMenuFailWhenIdIsNull() throws Exception {
@@ -198,12 +384,12 @@ class MenuControllerTest {
             String menu = "아메리카노";
             Integer price = 3000;
 
-            var requestDto = new UpdateMenuRequest(id, menu, price);
+            var requestDto = new UpdateMenuRequest(id, menu, price, null);
             var requestBody = objectMapper.writeValueAsString(requestDto);
 
             Long updatedMenuId = 1L;
 
-            given(menuWriteService.updateMenu(any(), any(), any())).willReturn(updatedMenuId);
+            given(menuWriteService.updateMenu(any(), any(), any(), any())).willReturn(updatedMenuId);
 
             // when & then
             mockMvc.perform(patch(testApiPath).contentType(APPLICATION_JSON).content(requestBody))
@@ -223,12 +409,12 @@ class MenuControllerTest {
             String menu = null;
             Integer price = 3000;
 
-            var requestDto = new UpdateMenuRequest(id, menu, price);
+            var requestDto = new UpdateMenuRequest(id, menu, price, null);
             var requestBody = objectMapper.writeValueAsString(requestDto);
 
             Long updatedMenuId = 1L;
 
-            given(menuWriteService.updateMenu(any(), any(), any())).willReturn(updatedMenuId);
+            given(menuWriteService.updateMenu(any(), any(), any(), any())).willReturn(updatedMenuId);
 
             // when & then
             mockMvc.perform(patch(testApiPath).contentType(APPLICATION_JSON).content(requestBody))
@@ -248,12 +434,12 @@ class MenuControllerTest {
             String menu = "";
             Integer price = 3000;
 
-            var requestDto = new UpdateMenuRequest(id, menu, price);
+            var requestDto = new UpdateMenuRequest(id, menu, price, null);
             var requestBody = objectMapper.writeValueAsString(requestDto);
 
             Long updatedMenuId = 1L;
 
-            given(menuWriteService.updateMenu(any(), any(), any())).willReturn(updatedMenuId);
+            given(menuWriteService.updateMenu(any(), any(), any(), any())).willReturn(updatedMenuId);
 
             // when & then
             mockMvc.perform(patch(testApiPath).contentType(APPLICATION_JSON).content(requestBody))
@@ -273,7 +459,7 @@ class MenuControllerTest {
             String menu = "아메리카노";
             Integer price = 100;
 
-            var requestDto = new UpdateMenuRequest(id, menu, price);
+            var requestDto = new UpdateMenuRequest(id, menu, price, null);
             var requestBody = objectMapper.writeValueAsString(requestDto);
 
             // when & then
@@ -300,7 +486,7 @@ class MenuControllerTest {
             String name = "아메리카노";
             Integer price = 3000;
 
-            given(menuReadService.getMenuById(menuIdToGet)).willReturn(new GetMenuResponse(menuIdToGet, name, price));
+            given(menuReadService.getMenuById(menuIdToGet)).willReturn(new GetMenuResponse(menuIdToGet, name, price, 1L));
 
             // when & then
             mockMvc.perform(get(testApiPath, menuIdToGet)
@@ -312,7 +498,70 @@ class MenuControllerTest {
                    .andExpect(jsonPath("$.data.id").isNotEmpty())
                    .andExpect(jsonPath("$.data.name").value(name))
                    .andExpect(jsonPath("$.data.price").value(price))
-                   .andExpect(jsonPath("$.validation").isEmpty());
+                   .andExpect(jsonPath("$.validation").isEmpty())
+                   .andExpect(header().string("ETag", "\"1-1\""));
+        }
+
+        @Test
+        @DisplayName("ETag 가 같으면 본문 없이 304 를 응답한다")
+        void getMenuNotModified() throws Exception {
+            // given
+            Long menuIdToGet = 1L;
+
+            given(menuReadService.getMenuById(menuIdToGet)).willReturn(new GetMenuResponse(menuIdToGet, "아메리카노", 3000, 1L));
+
+            // when & then
+            mockMvc.perform(get(testApiPath, menuIdToGet)
+                                    .header("If-None-Match", "\"1-1\""))
+                   .andExpect(status().isNotModified())
+                   .andExpect(header().string("ETag", "\"1-1\""))
+                   .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("수정 시각 이후 변경이 없으면 If-Modified-Since 로 304 를 응답한다")
+        void getMenuNotModifiedSince() throws Exception {
+            // given
+            Long menuIdToGet = 1L;
+
+            given(menuReadService.getMenuById(menuIdToGet)).willReturn(new GetMenuResponse(menuIdToGet, "아메리카노", 3000, 1L, LocalDateTime.of(2024, 1, 1, 12, 0)));
+
+            var lastModified = mockMvc.perform(get(testApiPath, menuIdToGet))
+                                      .andExpect(status().isOk())
+                                      .andExpect(header().exists("Last-Modified"))
+                                      .andReturn()
+                                      .getResponse()
+                                      .getHeader("Last-Modified");
+
+            // when & then
+            mockMvc.perform(get(testApiPath, menuIdToGet)
+                                    .header("If-Modified-Since", lastModified))
+                   .andExpect(status().isNotModified())
+                   .andExpect(header().string("Last-Modified", lastModified))
+                   .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("메뉴가 수정되면 수정된 메뉴를 조회한다")
+        void getMenuAfterMenuChanged() throws Exception {
+            // given
+            Long menuIdToGet = 2L;
+
+            given(menuReadService.getMenuById(menuIdToGet)).willReturn(new GetMenuResponse(menuIdToGet, "아메리카노", 3000, 0L),
+                                                                       new GetMenuResponse(menuIdToGet, "아메리카노", 3500, 1L));
+
+            mockMvc.perform(get(testApiPath, menuIdToGet)
+                                    .contentType(APPLICATION_JSON))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$.data.price").value(3000));
+
+            // when & then
+            mockMvc.perform(get(testApiPath, menuIdToGet)
+                                    .contentType(APPLICATION_JSON))
+                   .andExpect(status().isOk())
+                   .andExpect(content().contentType(APPLICATION_JSON))
+                   .andExpect(jsonPath("$.message").value("메뉴가 조회되었습니다."))
+                   .andExpect(jsonPath("$.data.price").value(3500));
         }
 
         @Test
@@ -337,6 +586,426 @@ class MenuControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("다건 메뉴 조회 테스트")
+    class FindMenusTest {
+        private final String testApiPath = "/api/v1/menu";
+
+        @Test
+        @DisplayName("여러 메뉴를 한 번에 조회한다")
+        void getMenusSuccess() throws Exception {
+            // given
+            var americano = new GetMenuResponse(1L, "아메리카노", 3000, 0L);
+
+            given(menuReadService.getMenusByIds(List.of(1L, 2L)))
+                    .willReturn(new GetMenusResponse(List.of(new GetMenusResponse.Item(1L, true, americano),
+                                                             new GetMenusResponse.Item(2L, false, null))));
+
+            // when & then
+            mockMvc.perform(get(testApiPath).param("ids", "1,2")
+                                            .contentType(APPLICATION_JSON))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$.success").value(true))
+                   .andExpect(jsonPath("$.message").value("메뉴가 조회되었습니다."))
+                   .andExpect(jsonPath("$.code").value("OK"))
+                   .andExpect(jsonPath("$.data.menus[0].id").value(1))
+                   .andExpect(jsonPath("$.data.menus[0].found").value(true))
+                   .andExpect(jsonPath("$.data.menus[0].menu.name").value("아메리카노"))
+                   .andExpect(jsonPath("$.data.menus[1].id").value(2))
+                   .andExpect(jsonPath("$.data.menus[1].found").value(false))
+                   .andExpect(jsonPath("$.data.menus[1].menu").isEmpty())
+                   .andExpect(jsonPath("$.validation").isEmpty());
+        }
+
+        @Test
+        @DisplayName("한 번에 조회할 수 있는 개수를 넘으면 요청이 실패한다")
+        void getMenusFailWhenTooMany() throws Exception {
+            // given
+            given(menuReadService.getMenusByIds(any()))
+                    .willThrow(new BadRequestException(ErrorCode.BAD_REQUEST.getMessage(), ErrorCode.BAD_REQUEST.getCode(), ErrorCode.BAD_REQUEST.getStatus()));
+
+            // when & then
+            mockMvc.perform(get(testApiPath).param("ids", "1,2")
+                                            .contentType(APPLICATION_JSON))
+                   .andExpect(status().isBadRequest())
+                   .andExpect(jsonPath("$.success").value(false))
+                   .andExpect(jsonPath("$.message").value("잘못된 요청입니다"))
+                   .andExpect(jsonPath("$.code").value("BAD_REQUEST"))
+                   .andExpect(jsonPath("$.data").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("메뉴 목록 조회 테스트")
+    class FindMenuPageTest {
+        private final String testApiPath = "/api/v1/menus";
+
+        @Test
+        @DisplayName("메뉴 목록을 조회한다")
+        void getMenuPageSuccess() throws Exception {
+            // given
+            given(menuReadService.getMenus("MQ", 1, null, null, "id", "asc"))
+                    .willReturn(new MenuPage(new GetMenuPageResponse(List.of(new GetMenuResponse(2L, "라떼", 4000, 0L)), "Mg"),
+                                             new MenuValidator("\"abc\"", 1_000L)));
+
+            // when & then
+            mockMvc.perform(get(testApiPath).param("cursor", "MQ")
+                                            .param("size", "1")
+                                            .contentType(APPLICATION_JSON))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$.success").value(true))
+                   .andExpect(jsonPath("$.message").value("메뉴 목록이 조회되었습니다."))
+                   .andExpect(jsonPath("$.code").value("OK"))
+                   .andExpect(jsonPath("$.data.menus[0].id").value(2))
+                   .andExpect(jsonPath("$.data.menus[0].name").value("라떼"))
+                   .andExpect(jsonPath("$.data.nextCursor").value("Mg"))
+                   .andExpect(jsonPath("$.validation").isEmpty())
+                   .andExpect(header().string("ETag", "\"abc\""));
+        }
+
+        @Test
+        @DisplayName("가격 범위와 정렬 조건으로 메뉴 목록을 조회한다")
+        void getMenuPageWithFilter() throws Exception {
+            // given
+            given(menuReadService.getMenus(null, 20, 3000, 5000, "price", "desc"))
+                    .willReturn(new MenuPage(new GetMenuPageResponse(List.of(new GetMenuResponse(3L, "모카", 4500, 0L)), null),
+                                             new MenuValidator("\"abc\"", 1_000L)));
+
+            // when & then
+            mockMvc.perform(get(testApiPath).param("minPrice", "3000")
+                                            .param("maxPrice", "5000")
+                                            .param("sort", "price")
+                                            .param("direction", "desc"))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$.data.menus[0].id").value(3))
+                   .andExpect(jsonPath("$.data.menus[0].price").value(4500));
+        }
+
+        @Test
+        @DisplayName("ETag 가 같으면 본문 없이 304 를 응답한다")
+        void getMenuPageNotModified() throws Exception {
+            // given
+            given(menuReadService.getMenus(null, 20, null, null, "id", "asc"))
+                    .willReturn(new MenuPage(new GetMenuPageResponse(List.of(new GetMenuResponse(2L, "라떼", 4000, 0L)), null),
+                                             new MenuValidator("\"abc\"", 1_000L)));
+
+            // when & then
+            mockMvc.perform(get(testApiPath).header("If-None-Match", "\"abc\""))
+                   .andExpect(status().isNotModified())
+                   .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("gzip 을 허용하면 미리 압축해 둔 메뉴 목록을 응답한다")
+        void getMenuPageGzip() throws Exception {
+            // given
+            var menus = LongStream.rangeClosed(1, 20)
+                                  .mapToObj(id -> new GetMenuResponse(id, "아메리카노" + id, 3000, 0L))
+                                  .toList();
+            given(menuReadService.getMenus(null, 20, null, null, "id", "asc"))
+                    .willReturn(new MenuPage(new GetMenuPageResponse(menus, "MjA"), new MenuValidator("\"page\"", 1_000L)));
+
+            // when
+            var result = mockMvc.perform(get(testApiPath).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                                .andExpect(header().string("ETag", "\"page-gzip\""))
+                                .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"))
+                                .andReturn();
+
+            // then
+            try (var inputStream = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+                var body = objectMapper.readTree(inputStream);
+                assertThat(body.at("/message").asText()).isEqualTo("메뉴 목록이 조회되었습니다.");
+                assertThat(body.at("/data/menus")).hasSize(20);
+                assertThat(body.at("/data/nextCursor").asText()).isEqualTo("MjA");
+            }
+        }
+
+        @Test
+        @DisplayName("압축한 응답과 압축하지 않은 응답의 ETag 는 서로 재검증에 쓰이지 않는다")
+        void getMenuPageNotModifiedPerEncoding() throws Exception {
+            // given
+            var menus = LongStream.rangeClosed(1, 20)
+                                  .mapToObj(id -> new GetMenuResponse(id, "아메리카노" + id, 3000, 0L))
+                                  .toList();
+            given(menuReadService.getMenus(null, 20, null, null, "id", "asc"))
+                    .willReturn(new MenuPage(new GetMenuPageResponse(menus, "MjA"), new MenuValidator("\"page\"", 1_000L)));
+
+            // when & then
+            mockMvc.perform(get(testApiPath).header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                                            .header("If-None-Match", "\"page\""))
+                   .andExpect(status().isOk())
+                   .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+            mockMvc.perform(get(testApiPath).header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                                            .header("If-None-Match", "\"page-gzip\""))
+                   .andExpect(status().isNotModified());
+            mockMvc.perform(get(testApiPath).header("If-None-Match", "\"page-gzip\""))
+                   .andExpect(status().isOk())
+                   .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        }
+
+        @Test
+        @DisplayName("gzip 을 허용하지 않으면 압축하지 않은 메뉴 목록을 응답한다")
+        void getMenuPageIdentity() throws Exception {
+            // given
+            var menus = LongStream.rangeClosed(1, 20)
+                                  .mapToObj(id -> new GetMenuResponse(id, "아메리카노" + id, 3000, 0L))
+                                  .toList();
+            given(menuReadService.getMenus(null, 20, null, null, "id", "asc"))
+                    .willReturn(new MenuPage(new GetMenuPageResponse(menus, "MjA"), new MenuValidator("\"page\"", 1_000L)));
+
+            // when & then
+            mockMvc.perform(get(testApiPath).header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                   .andExpect(status().isOk())
+                   .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                   .andExpect(header().string("ETag", "\"page\""))
+                   .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"))
+                   .andExpect(jsonPath("$.data.menus.length()").value(20));
+        }
+    }
+
+    @Nested
+    @DisplayName("바이너리 콘텐츠 협상 테스트")
+    class BinaryContentNegotiationTest {
+        private final ObjectMapper cborMapper = new CBORMapper();
+        private final ObjectMapper smileMapper = new SmileMapper();
+
+        @Test
+        @DisplayName("CBOR 를 요청하면 단건 메뉴를 CBOR 로 응답한다")
+        void getMenuCbor() throws Exception {
+            // given
+            given(menuReadService.getMenuById(1L)).willReturn(new GetMenuResponse(1L, "아메리카노", 3000, 1L));
+
+            // when
+            var result = mockMvc.perform(get("/api/v1/menu/{menuId}", 1L).accept(APPLICATION_CBOR))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType(APPLICATION_CBOR))
+                                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                                .andExpect(header().string("ETag", "\"1-1-cbor\""))
+                                .andReturn();
+
+            // then
+            var body = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+            assertThat(body.at("/message").asText()).isEqualTo("메뉴가 조회되었습니다.");
+            assertThat(body.at("/data/name").asText()).isEqualTo("아메리카노");
+            assertThat(body.at("/data/price").asInt()).isEqualTo(3000);
+        }
+
+        @Test
+        @DisplayName("형식마다 다른 ETag 로 재검증한다")
+        void getMenuNotModifiedPerFormat() throws Exception {
+            // given
+            given(menuReadService.getMenuById(1L)).willReturn(new GetMenuResponse(1L, "아메리카노", 3000, 1L));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/menu/{menuId}", 1L).accept(APPLICATION_CBOR)
+                                                            .header("If-None-Match", "\"1-1\""))
+                   .andExpect(status().isOk())
+                   .andExpect(content().contentType(APPLICATION_CBOR));
+            mockMvc.perform(get("/api/v1/menu/{menuId}", 1L).accept(APPLICATION_CBOR)
+                                                            .header("If-None-Match", "\"1-1-cbor\""))
+                   .andExpect(status().isNotModified());
+            mockMvc.perform(get("/api/v1/menu/{menuId}", 1L).accept(SMILE)
+                                                            .header("If-None-Match", "\"1-1-cbor\""))
+                   .andExpect(status().isOk())
+                   .andExpect(content().contentType(SMILE))
+                   .andExpect(header().string("ETag", "\"1-1-x-jackson-smile\""));
+            mockMvc.perform(get("/api/v1/menu/{menuId}", 1L).header("If-None-Match", "\"1-1-cbor\""))
+                   .andExpect(status().isOk())
+                   .andExpect(content().contentType(APPLICATION_JSON));
+        }
+
+        @Test
+        @DisplayName("Smile 을 요청하면 메뉴 목록을 Smile 로 응답한다")
+        void getMenuPageSmile() throws Exception {
+            // given
+            given(menuReadService.getMenus(null, 20, null, null, "id", "asc"))
+                    .willReturn(new MenuPage(new GetMenuPageResponse(List.of(new GetMenuResponse(2L, "라떼", 4000, 0L)), "Mg"),
+                                             new MenuValidator("\"smile\"", 1_000L)));
+
+            // when
+            var result = mockMvc.perform(get("/api/v1/menus").accept(SMILE))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType(SMILE))
+                                .andReturn();
+
+            // then
+            var body = smileMapper.readTree(result.getResponse().getContentAsByteArray());
+            assertThat(body.at("/data/menus/0/name").asText()).isEqualTo("라떼");
+            assertThat(body.at("/data/nextCursor").asText()).isEqualTo("Mg");
+        }
+
+        @Test
+        @DisplayName("품질 값이 가장 높은 형식으로 응답하고 같으면 JSON 을 우선한다")
+        void getMenuByQuality() throws Exception {
+            // given
+            given(menuReadService.getMenuById(1L)).willReturn(new GetMenuResponse(1L, "아메리카노", 3000, 1L));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/menu/{menuId}", 1L).header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/cbor"))
+                   .andExpect(status().isOk())
+                   .andExpect(content().contentType(APPLICATION_CBOR));
+            mockMvc.perform(get("/api/v1/menu/{menuId}", 1L).header(HttpHeaders.ACCEPT, "application/json, application/cbor"))
+                   .andExpect(status().isOk())
+                   .andExpect(content().contentType(APPLICATION_JSON))
+                   .andExpect(jsonPath("$.data.name").value("아메리카노"));
+        }
+
+        @Test
+        @DisplayName("CBOR 로 메뉴를 생성하고 CBOR 로 응답한다")
+        void createMenuCbor() throws Exception {
+            // given
+            var requestBody = cborMapper.writeValueAsBytes(new CreateMenuRequest("아메리카노", 3000));
+            given(menuWriteService.createMenu("아메리카노", 3000)).willReturn(1L);
+
+            // when
+            var result = mockMvc.perform(post("/api/v1/menu").contentType(APPLICATION_CBOR)
+                                                             .accept(APPLICATION_CBOR)
+                                                             .content(requestBody))
+                                .andExpect(status().isCreated())
+                                .andExpect(content().contentType(APPLICATION_CBOR))
+                                .andReturn();
+
+            // then
+            var body = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+            assertThat(body.at("/message").asText()).isEqualTo("메뉴가 생성되었습니다.");
+            assertThat(body.at("/data/id").asLong()).isEqualTo(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("메뉴 가격 변경 접수 테스트")
+    class SubmitPriceUpdateTest {
+        private final String testApiPath = "/api/v1/menu/price-updates";
+
+        @Test
+        @DisplayName("가격 변경을 접수하고 추적 ID를 반환한다")
+        void submitPriceUpdateSuccess() throws Exception {
+            // given
+            var requestBody = objectMapper.writeValueAsString(new UpdateMenuPriceRequest(1L, 3500));
+
+            given(menuPriceUpdateQueue.submit(1L, 3500))
+                    .willReturn(new MenuPriceUpdateResponse("tracking-id", 1L, 3500, MenuPriceUpdateStatus.PENDING));
+
+            // when & then
+            mockMvc.perform(post(testApiPath).contentType(APPLICATION_JSON).content(requestBody))
+                   .andExpect(status().isAccepted())
+                   .andExpect(header().string("Location", "/api/v1/menu/price-updates/tracking-id"))
+                   .andExpect(jsonPath("$.success").value(true))
+                   .andExpect(jsonPath("$.message").value("메뉴 가격 변경이 접수되었습니다."))
+                   .andExpect(jsonPath("$.data.trackingId").value("tracking-id"))
+                   .andExpect(jsonPath("$.data.status").value("PENDING"));
+        }
+
+        @Test
+        @DisplayName("가격이 올바르지 않으면 요청이 실패한다")
+        void submitPriceUpdateWhenInvalidPrice() throws Exception {
+            // given
+            var requestBody = objectMapper.writeValueAsString(new UpdateMenuPriceRequest(1L, 100));
+
+            // when & then
+            mockMvc.perform(post(testApiPath).contentType(APPLICATION_JSON).content(requestBody))
+                   .andExpect(status().isBadRequest())
+                   .andExpect(jsonPath("$.success").value(false));
+
+            verify(menuPriceUpdateQueue, never()).submit(any(), any());
+        }
+
+        @Test
+        @DisplayName("대기열이 가득 차면 요청이 실패한다")
+        void submitPriceUpdateWhenQueueFull() throws Exception {
+            // given
+            var requestBody = objectMapper.writeValueAsString(new UpdateMenuPriceRequest(1L, 3500));
+
+            given(menuPriceUpdateQueue.submit(any(), any())).willThrow(ServiceUnavailableException.of());
+
+            // when & then
+            mockMvc.perform(post(testApiPath).contentType(APPLICATION_JSON).content(requestBody))
+                   .andExpect(status().isServiceUnavailable())
+                   .andExpect(jsonPath("$.code").value("SERVICE_UNAVAILABLE"));
+        }
+
+        @Test
+        @DisplayName("추적 ID로 가격 변경 상태를 조회한다")
+        void getPriceUpdateSuccess() throws Exception {
+            // given
+            given(menuPriceUpdateQueue.getStatus("tracking-id"))
+                    .willReturn(Optional.of(new MenuPriceUpdateResponse("tracking-id", 1L, 3500, MenuPriceUpdateStatus.APPLIED)));
+
+            // when & then
+            mockMvc.perform(get(testApiPath + "/{trackingId}", "tracking-id"))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$.data.status").value("APPLIED"));
+        }
+
+        @Test
+        @DisplayName("알 수 없는 추적 ID를 조회하면 요청이 실패한다")
+        void getPriceUpdateWhenNotFound() throws Exception {
+            // given
+            given(menuPriceUpdateQueue.getStatus(any())).willReturn(Optional.empty());
+
+            // when & then
+            mockMvc.perform(get(testApiPath + "/{trackingId}", "unknown"))
+                   .andExpect(status().isNotFound())
+                   .andExpect(jsonPath("$.code").value("NOT_FOUND"));
+        }
+    }
+
+    @Nested
+    @DisplayName("메뉴 검색 테스트")
+    class SearchMenusTest {
+        private final String testApiPath = "/api/v1/menus/search";
+
+        @Test
+        @DisplayName("메뉴 이름으로 검색한다")
+        void searchMenusSuccess() throws Exception {
+            // given
+            given(menuSearchService.searchMenus("라떼", true, null, 20))
+                    .willReturn(new GetMenuPageResponse(List.of(new GetMenuResponse(2L, "라떼", 4000, 0L)), null));
+
+            // when & then
+            mockMvc.perform(get(testApiPath).param("q", "라떼")
+                                            .param("prefix", "true"))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$.success").value(true))
+                   .andExpect(jsonPath("$.message").value("메뉴가 검색되었습니다."))
+                   .andExpect(jsonPath("$.data.menus[0].id").value(2))
+                   .andExpect(jsonPath("$.data.menus[0].name").value("라떼"))
+                   .andExpect(jsonPath("$.data.nextCursor").isEmpty());
+        }
+
+        @Test
+        @DisplayName("검색어가 올바르지 않으면 요청이 실패한다")
+        void searchMenusWhenBadRequest() throws Exception {
+            // given
+            given(menuSearchService.searchMenus(any(), anyBoolean(), any(), anyInt()))
+                    .willThrow(BadRequestException.of());
+
+            // when & then
+            mockMvc.perform(get(testApiPath).param("q", " "))
+                   .andExpect(status().isBadRequest())
+                   .andExpect(jsonPath("$.success").value(false))
+                   .andExpect(jsonPath("$.code").value("BAD_REQUEST"));
+        }
+    }
+
+    @Nested
+    @DisplayName("메뉴 변경 구독 테스트")
+    class SubscribeMenuChangesTest {
+        private final String testApiPath = "/api/v1/menu/changes";
+
+        @Test
+        @DisplayName("메뉴 변경 이벤트 스트림을 구독한다")
+        void subscribeMenuChanges() throws Exception {
+            // when & then
+            mockMvc.perform(get(testApiPath)
+                                    .accept(TEXT_EVENT_STREAM))
+                   .andExpect(request().asyncStarted())
+                   .andExpect(status().isOk());
+        }
+    }
+
     @Nested
     @DisplayName("메뉴 삭제 테스트")
     class DeleteMenuTest {
@@ -382,4 +1051,28 @@ class MenuControllerTest {
                    .andExpect(jsonPath("$.validation").isEmpty());
         }
     }
+
+    @Nested
+    @DisplayName("메뉴 일괄 삭제 테스트")
+    class DeleteMenusTest {
+        private final String testApiPath = "/api/v1/menu";
+
+        @Test
+        @DisplayName("여러 메뉴를 한 번에 삭제한다")
+        void deleteMenusSuccess() throws Exception {
+            // given
+            given(menuWriteService.deleteMenus(List.of(1L, 2L))).willReturn(new DeleteMenusResponse(List.of(1L, 2L), 1));
+
+            // when & then
+            mockMvc.perform(delete(testApiPath).param("ids", "1,2")
+                                               .contentType(APPLICATION_JSON))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$.success").value(true))
+                   .andExpect(jsonPath("$.message").value("메뉴가 삭제되었습니다."))
+                   .andExpect(jsonPath("$.code").value("OK"))
+                   .andExpect(jsonPath("$.data.ids[1]").value(2))
+                   .andExpect(jsonPath("$.data.deletedCount").value(1))
+                   .andExpect(jsonPath("$.validation").isEmpty());
+        }
+    }
 }
@@ -0,0 +1,267 @@
+package com.cafe.menu.outbox;
+
+import com.cafe.enums.MenuChangeType;
+import com.cafe.menu.service.MenuWriteService;
+import com.cafe.repository.MenuOutboxDeliveryCursorRepository;
+import com.cafe.repository.MenuOutboxEventRepository;
+import com.cafe.repository.MenuRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class MenuOutboxRelayTest {
+    @Autowired
+    private MenuOutboxRelay menuOutboxRelay;
+
+    @Autowired
+    private MenuOutboxTailer menuOutboxTailer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MenuWriteService menuWriteService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuOutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private MenuOutboxDeliveryCursorRepository deliveryCursorRepository;
+
+    @Autowired
+    private MenuOutboxProperties properties;
+
+    @Autowired
+    private RecordingMenuChangePublisher recordingPublisher;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAllInBatch();
+    }
+
+    @AfterEach
+    void tearDown() {
+        menuRepository.deleteAllInBatch();
+        outboxEventRepository.deleteAllInBatch();
+        recordingPublisher.messages.clear();
+    }
+
+    @Nested
+    @DisplayName("아웃박스 기록 테스트")
+    class RecordTest {
+        @Test
+        @DisplayName("메뉴 생성, 수정, 삭제가 아웃박스에 기록된다")
+        void recordMenuChanges() {
+            // given
+            var menuId = menuWriteService.createMenu("아메리카노", 3000);
+
+            // when
+            menuWriteService.updateMenu(menuId, "아메리카노", 3500);
+            menuWriteService.deleteMenu(menuId);
+
+            // then
+            var events = outboxEventRepository.findAll();
+            assertThat(events).extracting("menuId").containsOnly(menuId);
+            assertThat(events).extracting("type")
+                              .containsExactly(MenuChangeType.CREATED, MenuChangeType.UPDATED, MenuChangeType.DELETED);
+            assertThat(events).allMatch(event -> event.getPublishedAt() == null);
+        }
+
+        @Test
+        @DisplayName("일괄 삭제는 실제로 삭제된 메뉴만 아웃박스에 기록한다")
+        void recordOnlyDeletedMenus() {
+            // given
+            var menuId = menuWriteService.createMenu("아메리카노", 3000);
+            outboxEventRepository.deleteAllInBatch();
+
+            // when
+            menuWriteService.deleteMenus(List.of(menuId, menuId + 1));
+
+            // then
+            assertThat(outboxEventRepository.findAll()).extracting("menuId", "type")
+                                                       .containsExactly(tuple(menuId, MenuChangeType.DELETED));
+        }
+
+        @Test
+        @DisplayName("메뉴 변경이 실패하면 아웃박스에도 기록되지 않는다")
+        void notRecordWhenChangeFails() {
+            // when
+            assertThatThrownBy(() -> menuWriteService.deleteMenu(1L));
+
+            // then
+            assertThat(outboxEventRepository.count()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("아웃박스 릴레이 테스트")
+    class RelayTest {
+        @Test
+        @DisplayName("발행되지 않은 이벤트에 순번을 매겨 발행 완료로 표시한다")
+        void relayUnpublishedEvents() {
+            // given
+            menuWriteService.createMenu("아메리카노", 3000);
+            menuWriteService.createMenu("카페라떼", 4000);
+
+            // when
+            var relayed = menuOutboxRelay.relay();
+
+            // then
+            assertThat(relayed).isEqualTo(2);
+            assertThat(recordingPublisher.messages).isEmpty();
+            assertThat(outboxEventRepository.findAll()).allMatch(event -> event.getPublishedAt() != null && event.getRelaySequence() != null);
+        }
+
+        @Test
+        @DisplayName("이미 발행된 이벤트는 다시 발행하지 않는다")
+        void notRelayPublishedEvents() {
+            // given
+            menuWriteService.createMenu("아메리카노", 3000);
+            menuOutboxRelay.relay();
+
+            // when
+            var relayed = menuOutboxRelay.relay();
+
+            // then
+            assertThat(relayed).isZero();
+        }
+
+        @Test
+        @DisplayName("보관 기간이 지나지 않은 발행 이벤트는 삭제하지 않는다")
+        void notPurgeRecentEvents() {
+            // given
+            menuWriteService.createMenu("아메리카노", 3000);
+            menuOutboxRelay.relay();
+
+            // when
+            var purged = menuOutboxRelay.purge();
+
+            // then
+            assertThat(purged).isZero();
+            assertThat(outboxEventRepository.count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("아웃박스 구독 테스트")
+    class TailTest {
+        @Test
+        @DisplayName("커밋된 발행 이벤트를 순번 순서대로 전달한다")
+        void pollPublishedEvents() {
+            // given
+            var firstMenuId = menuWriteService.createMenu("아메리카노", 3000);
+            var secondMenuId = menuWriteService.createMenu("카페라떼", 4000);
+            menuOutboxRelay.relay();
+
+            // when
+            var polled = menuOutboxTailer.poll();
+
+            // then
+            assertThat(polled).isEqualTo(2);
+            assertThat(recordingPublisher.messages).extracting(MenuChangeMessage::menuId)
+                                                   .containsExactly(firstMenuId, secondMenuId);
+            assertThat(menuOutboxTailer.poll()).isZero();
+        }
+
+        @Test
+        @DisplayName("다른 노드에서 늦게 커밋된 작은 id 의 이벤트도 놓치지 않는다")
+        void pollLowerIdCommittedLater() {
+            // given
+            var menuId = menuWriteService.createMenu("아메리카노", 3000);
+            menuOutboxRelay.relay();
+            menuOutboxTailer.poll();
+            var seenEvent = outboxEventRepository.findAll().get(0);
+            jdbcTemplate.update("insert into menu_outbox_event (id, menu_id, type, occurred_at) values (?, ?, 'UPDATED', ?)",
+                                seenEvent.getId() - 1, menuId, LocalDateTime.now());
+            menuOutboxRelay.relay();
+
+            // when
+            menuOutboxTailer.poll();
+            var replayed = outboxEventRepository.findPublishedAfter(seenEvent.getRelaySequence(), PageRequest.ofSize(10));
+
+            // then
+            assertThat(recordingPublisher.messages).extracting(MenuChangeMessage::eventId)
+                                                   .containsExactly(seenEvent.getId(), seenEvent.getId() - 1);
+            assertThat(replayed).extracting("id").containsExactly(seenEvent.getId() - 1);
+        }
+
+        @Test
+        @DisplayName("릴레이 후 전달 전에 재시작해도 아직 전달하지 않은 이벤트를 전달한다")
+        void pollAfterRestartBetweenRelayAndDelivery() {
+            // given
+            var menuId = menuWriteService.createMenu("아메리카노", 3000);
+            menuOutboxRelay.relay();
+            var restartedTailer = new MenuOutboxTailer(outboxEventRepository, deliveryCursorRepository, List.of(recordingPublisher), properties);
+
+            // when
+            var polled = restartedTailer.poll();
+
+            // then
+            assertThat(polled).isEqualTo(1);
+            assertThat(recordingPublisher.messages).extracting(MenuChangeMessage::menuId)
+                                                   .containsExactly(menuId);
+        }
+
+        @Test
+        @DisplayName("재시작해도 이미 전달한 이벤트는 다시 전달하지 않는다")
+        void notRedeliverAfterRestart() {
+            // given
+            menuWriteService.createMenu("아메리카노", 3000);
+            menuOutboxRelay.relay();
+            menuOutboxTailer.poll();
+            recordingPublisher.messages.clear();
+            var restartedTailer = new MenuOutboxTailer(outboxEventRepository, deliveryCursorRepository, List.of(recordingPublisher), properties);
+
+            // when
+            var polled = restartedTailer.poll();
+
+            // then
+            assertThat(polled).isZero();
+            assertThat(recordingPublisher.messages).isEmpty();
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingPublisherConfig {
+        @Bean
+        RecordingMenuChangePublisher recordingMenuChangePublisher() {
+            return new RecordingMenuChangePublisher();
+        }
+    }
+
+    static class RecordingMenuChangePublisher implements MenuChangePublisher {
+        private final List<MenuChangeMessage> messages = new ArrayList<>();
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void publish(List<MenuChangeMessage> messages) {
+            this.messages.addAll(messages);
+        }
+    }
+}
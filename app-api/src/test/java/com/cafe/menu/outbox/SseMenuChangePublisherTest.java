@@ -0,0 +1,107 @@
+package com.cafe.menu.outbox;
+
+import com.cafe.enums.MenuChangeType;
+import com.cafe.repository.MenuOutboxDeliveryCursorRepository;
+import com.cafe.repository.MenuOutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class SseMenuChangePublisherTest {
+    private final MenuOutboxProperties properties = new MenuOutboxProperties(true, Duration.ofSeconds(1), true, Duration.ofMillis(500), 100,
+                                                                             Duration.ofDays(1), Duration.ofMinutes(10), Duration.ofMinutes(30), 1);
+    private final PendingExecutor sender = new PendingExecutor();
+    private SseMenuChangePublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        var deliveryCursorRepository = mock(MenuOutboxDeliveryCursorRepository.class);
+        given(deliveryCursorRepository.findById("sse")).willReturn(Optional.empty());
+        publisher = new SseMenuChangePublisher(mock(MenuOutboxEventRepository.class), deliveryCursorRepository, properties, sender);
+    }
+
+    @Test
+    @DisplayName("전송이 밀린 구독자는 발행을 막지 않고 연결이 끊긴다")
+    void completeSubscriberFallingBehind() {
+        // given
+        publisher.subscribe(null);
+
+        // when
+        publisher.publish(List.of(message(1)));
+        publisher.publish(List.of(message(2)));
+
+        // then
+        assertThat(publisher.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송을 따라오는 구독자는 연결을 유지한다")
+    void keepSubscriberKeepingUp() {
+        // given
+        publisher.subscribe(null);
+
+        // when
+        publisher.publish(List.of(message(1)));
+        sender.runPending();
+        publisher.publish(List.of(message(2)));
+        sender.runPending();
+
+        // then
+        assertThat(publisher.getSubscriberCount()).isEqualTo(1);
+    }
+
+    private static MenuChangeMessage message(long sequence) {
+        return new MenuChangeMessage(sequence, sequence, 1L, MenuChangeType.UPDATED, LocalDateTime.now());
+    }
+
+    private static class PendingExecutor extends AbstractExecutorService {
+        private final List<Runnable> pending = new ArrayList<>();
+
+        void runPending() {
+            while (!pending.isEmpty()) {
+                pending.remove(0).run();
+            }
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            pending.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
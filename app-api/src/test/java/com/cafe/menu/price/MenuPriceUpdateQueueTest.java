@@ -0,0 +1,231 @@
+package com.cafe.menu.price;
+
+import com.cafe.domain.menu.Menu;
+import com.cafe.domain.outbox.MenuOutboxEvent;
+import com.cafe.enums.MenuChangeType;
+import com.cafe.exception.ServiceUnavailableException;
+import com.cafe.menu.cache.MenuCache;
+import com.cafe.menu.controller.dto.MenuPriceUpdateResponse;
+import com.cafe.menu.service.MenuReadService;
+import com.cafe.repository.MenuOutboxEventRepository;
+import com.cafe.repository.MenuRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class MenuPriceUpdateQueueTest {
+    @Autowired
+    private MenuPriceUpdateQueue menuPriceUpdateQueue;
+
+    @Autowired
+    private MenuReadService menuReadService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuOutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private MenuCache menuCache;
+
+    @AfterEach
+    void tearDown() {
+        menuRepository.deleteAllInBatch();
+        outboxEventRepository.deleteAllInBatch();
+        menuCache.invalidateAll();
+    }
+
+    @Nested
+    @DisplayName("가격 변경 반영 테스트")
+    class FlushTest {
+        @Test
+        @DisplayName("같은 메뉴의 가격 변경은 마지막 값 하나로 합쳐서 반영한다")
+        void collapseUpdatesForSameMenu() {
+            // given
+            var americano = menuRepository.save(Menu.create("아메리카노", 3000));
+            var latte = menuRepository.save(Menu.create("카페라떼", 4000));
+            var first = menuPriceUpdateQueue.submit(americano.getId(), 3100);
+            var second = menuPriceUpdateQueue.submit(americano.getId(), 3200);
+            var last = menuPriceUpdateQueue.submit(americano.getId(), 3300);
+            var other = menuPriceUpdateQueue.submit(latte.getId(), 4500);
+
+            // when
+            var flushed = menuPriceUpdateQueue.flush();
+
+            // then
+            assertThat(flushed).isEqualTo(2);
+            assertThat(menuPriceUpdateQueue.getQueueSize()).isZero();
+            assertThat(menuRepository.findById(americano.getId())).get()
+                                                                 .extracting(Menu::getPrice, Menu::getVersion)
+                                                                 .containsExactly(3300, americano.getVersion() + 1);
+            assertThat(menuRepository.findById(latte.getId())).get()
+                                                              .extracting(Menu::getPrice)
+                                                              .isEqualTo(4500);
+            assertThat(menuPriceUpdateQueue.getStatus(first.trackingId())).get()
+                                                                          .extracting("status")
+                                                                          .isEqualTo(MenuPriceUpdateStatus.SUPERSEDED);
+            assertThat(menuPriceUpdateQueue.getStatus(second.trackingId())).get()
+                                                                           .extracting("status")
+                                                                           .isEqualTo(MenuPriceUpdateStatus.SUPERSEDED);
+            assertThat(menuPriceUpdateQueue.getStatus(last.trackingId())).get()
+                                                                         .extracting("status")
+                                                                         .isEqualTo(MenuPriceUpdateStatus.APPLIED);
+            assertThat(menuPriceUpdateQueue.getStatus(other.trackingId())).get()
+                                                                          .extracting("status")
+                                                                          .isEqualTo(MenuPriceUpdateStatus.APPLIED);
+        }
+
+        @Test
+        @DisplayName("없는 메뉴의 가격 변경은 NOT_FOUND 상태로 끝난다")
+        void markMissingMenuNotFound() {
+            // given
+            var update = menuPriceUpdateQueue.submit(Long.MAX_VALUE, 3000);
+
+            // when
+            menuPriceUpdateQueue.flush();
+
+            // then
+            assertThat(menuPriceUpdateQueue.getStatus(update.trackingId())).get()
+                                                                           .extracting("status")
+                                                                           .isEqualTo(MenuPriceUpdateStatus.NOT_FOUND);
+            assertThat(outboxEventRepository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("반영된 가격 변경은 캐시를 무효화하고 아웃박스에 기록한다")
+        void publishChangesForAppliedUpdates() {
+            // given
+            var americano = menuRepository.save(Menu.create("아메리카노", 3000));
+            assertThat(menuReadService.getMenuById(americano.getId()).price()).isEqualTo(3000);
+            menuPriceUpdateQueue.submit(americano.getId(), 3500);
+
+            // when
+            menuPriceUpdateQueue.flush();
+
+            // then
+            assertThat(menuReadService.getMenuById(americano.getId()).price()).isEqualTo(3500);
+            assertThat(outboxEventRepository.findAll()).extracting(MenuOutboxEvent::getMenuId, MenuOutboxEvent::getType)
+                                                       .containsExactly(tuple(americano.getId(), MenuChangeType.UPDATED));
+        }
+    }
+
+    @Nested
+    @DisplayName("대기열 제한 테스트")
+    class QueueLimitTest {
+        private final MenuPriceUpdateWriter writer = mock(MenuPriceUpdateWriter.class);
+
+        @Test
+        @DisplayName("대기열이 가득 차면 새 메뉴의 가격 변경을 거절하고 대기 중인 메뉴의 변경은 받는다")
+        void rejectNewMenuWhenFull() {
+            // given
+            var queue = newQueue(2, 100);
+            queue.submit(1L, 3000);
+            queue.submit(2L, 3000);
+
+            // when, then
+            assertThatThrownBy(() -> queue.submit(3L, 3000)).isInstanceOf(ServiceUnavailableException.class);
+            assertThat(queue.submit(1L, 3100).status()).isEqualTo(MenuPriceUpdateStatus.PENDING);
+            assertThat(queue.getQueueSize()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("대기 중인 메뉴 수가 기준에 도달하면 바로 반영한다")
+        void flushWhenSizeThresholdReached() {
+            // given
+            var queue = newQueue(100, 2);
+            given(writer.updatePrices(anyList())).willReturn(new int[]{1, 1});
+            queue.submit(1L, 3000);
+
+            // when
+            queue.submit(2L, 3000);
+
+            // then
+            verify(writer).updatePrices(anyList());
+            assertThat(queue.getQueueSize()).isZero();
+        }
+
+        @Test
+        @DisplayName("반영에 실패하면 가격 변경을 대기열에 되돌려 다음 반영 때 다시 시도한다")
+        void requeueWhenFlushFails() {
+            // given
+            var queue = newQueue(100, 100);
+            given(writer.updatePrices(anyList())).willThrow(new IllegalStateException("db down"));
+            var update = queue.submit(1L, 3000);
+
+            // when
+            assertThatThrownBy(queue::flush).isInstanceOf(IllegalStateException.class);
+
+            // then
+            assertThat(queue.getQueueSize()).isEqualTo(1);
+            assertThat(queue.getStatus(update.trackingId())).get()
+                                                            .extracting("status")
+                                                            .isEqualTo(MenuPriceUpdateStatus.PENDING);
+        }
+
+        @Test
+        @DisplayName("반영에 실패하는 사이 새 가격이 들어오면 이전 가격 변경은 SUPERSEDED 상태로 끝난다")
+        void supersedeFailedUpdateWhenNewerPriceArrived() {
+            // given
+            var queue = newQueue(100, 100);
+            var stale = queue.submit(1L, 3000);
+            var newer = new MenuPriceUpdateResponse[1];
+            given(writer.updatePrices(anyList())).willAnswer(invocation -> {
+                newer[0] = queue.submit(1L, 3100);
+                throw new IllegalStateException("db down");
+            });
+
+            // when
+            assertThatThrownBy(queue::flush).isInstanceOf(IllegalStateException.class);
+
+            // then
+            assertThat(queue.getQueueSize()).isEqualTo(1);
+            assertThat(queue.getStatus(stale.trackingId())).get()
+                                                           .extracting("status")
+                                                           .isEqualTo(MenuPriceUpdateStatus.SUPERSEDED);
+            assertThat(queue.getStatus(newer[0].trackingId())).get()
+                                                              .extracting("status")
+                                                              .isEqualTo(MenuPriceUpdateStatus.PENDING);
+        }
+
+        @Test
+        @DisplayName("종료할 때 대기 중인 가격 변경을 모두 반영한다")
+        void drainPendingUpdatesOnShutdown() {
+            // given
+            var queue = newQueue(100, 2);
+            given(writer.updatePrices(anyList())).willReturn(new int[]{1});
+            queue.submit(1L, 3000);
+
+            // when
+            queue.drainOnShutdown();
+
+            // then
+            verify(writer).updatePrices(anyList());
+            assertThat(queue.getQueueSize()).isZero();
+        }
+
+        private MenuPriceUpdateQueue newQueue(int queueCapacity, int flushSize) {
+            return new MenuPriceUpdateQueue(writer,
+                                            new MenuPriceUpdateProperties(false, queueCapacity, Duration.ofSeconds(1), flushSize, Duration.ofMinutes(10)),
+                                            Runnable::run,
+                                            new SimpleMeterRegistry());
+        }
+    }
+}
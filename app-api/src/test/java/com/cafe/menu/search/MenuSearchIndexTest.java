@@ -0,0 +1,75 @@
+package com.cafe.menu.search;
+
+import com.cafe.menu.controller.dto.GetMenuResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MenuSearchIndexTest {
+    @Nested
+    @DisplayName("색인 갱신 테스트")
+    class PutTest {
+        @Test
+        @DisplayName("이름이 바뀌면 사라진 단어만 색인에서 지운다")
+        void putRemovesOnlyDisappearedTerms() {
+            // given
+            var index = new MenuSearchIndex();
+            index.put(new GetMenuResponse(1L, "아메리카노", 3000, 0L));
+
+            // when
+            index.put(new GetMenuResponse(1L, "아이스 아메리카노", 3500, 1L));
+
+            // then
+            assertThat(index.search("아메리카", false, 0L, 10)).extracting(GetMenuResponse::price)
+                                                                .containsExactly(3500);
+            assertThat(index.search("아이스", false, 0L, 10)).hasSize(1);
+            assertThat(index.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("같은 메뉴를 다시 색인하는 동안에도 공통 단어로 계속 검색된다")
+        void searchWhilePutting() {
+            // given
+            var index = new MenuSearchIndex();
+            index.put(new GetMenuResponse(1L, "아메리카노", 3000, 0L));
+            var missed = new AtomicBoolean();
+            var done = new AtomicBoolean();
+
+            // when
+            var searcher = CompletableFuture.runAsync(() -> {
+                while (!done.get()) {
+                    if (index.search("아메리카", false, 0L, 10).isEmpty()) {
+                        missed.set(true);
+                    }
+                }
+            });
+            for (int i = 0; i < 20_000; i++) {
+                index.put(new GetMenuResponse(1L, i % 2 == 0 ? "아이스 아메리카노" : "아메리카노", 3000, (long) i));
+            }
+            done.set(true);
+            searcher.join();
+
+            // then
+            assertThat(missed).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("초성 판별 테스트")
+    class IsChoseongTest {
+        @Test
+        @DisplayName("초성 자음만 초성으로 판별한다")
+        void isChoseong() {
+            // when & then
+            assertThat(MenuSearchIndex.isChoseong("ㅋㅍㄹㄸ")).isTrue();
+            assertThat(MenuSearchIndex.isChoseong("ㄱㄳ")).isFalse();
+            assertThat(MenuSearchIndex.isChoseong("ㄵ")).isFalse();
+            assertThat(MenuSearchIndex.isChoseong("ㅏ")).isFalse();
+        }
+    }
+}
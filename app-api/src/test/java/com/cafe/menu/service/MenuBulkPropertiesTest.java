@@ -0,0 +1,41 @@
+package com.cafe.menu.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.validation.BindValidationException;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MenuBulkPropertiesTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ValidationAutoConfiguration.class))
+            .withUserConfiguration(BulkPropertiesConfig.class);
+
+    @Test
+    @DisplayName("배치 크기가 양수면 설정을 읽는다")
+    void bindPositiveBatchSize() {
+        // when & then
+        contextRunner.withPropertyValues("cafe.menu.bulk.batch-size=50")
+                     .run(context -> assertThat(context.getBean(MenuBulkProperties.class).batchSize()).isEqualTo(50));
+    }
+
+    @Test
+    @DisplayName("배치 크기가 0 이하면 애플리케이션이 시작되지 않는다")
+    void rejectNonPositiveBatchSize() {
+        // when & then
+        contextRunner.withPropertyValues("cafe.menu.bulk.batch-size=0")
+                     .run(context -> assertThat(context).hasFailed()
+                                                        .getFailure()
+                                                        .hasRootCauseInstanceOf(BindValidationException.class));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(MenuBulkProperties.class)
+    static class BulkPropertiesConfig {
+    }
+}
@@ -1,7 +1,11 @@
 package com.cafe.menu.service;
 
+import com.cafe.domain.menu.Menu;
+import com.cafe.exception.BadRequestException;
 import com.cafe.exception.NotFoundException;
+import com.cafe.menu.cache.MenuCache;
 import com.cafe.repository.MenuRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,8 +14,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 @ActiveProfiles("test")
 @SpringBootTest
@@ -19,12 +28,22 @@ class MenuReadServiceTest {
     @Autowired
     private MenuReadService menuReadService;
 
+    @Autowired
+    private MenuWriteService menuWriteService;
+
     @Autowired
     private MenuRepository menuRepository;
 
+    @Autowired
+    private MenuCache menuCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @AfterEach
     void tearDown() {
         menuRepository.deleteAllInBatch();
+        menuCache.invalidateAll();
     }
 
     @Nested
@@ -36,7 +55,7 @@ class MenuReadServiceTest {
             // given
             String name = "아메리카노";
             Integer price = 3000;
-            var savedMenu = menuRepository.save(com.cafe.domain.menu.Menu.create(name, price));
+            var savedMenu = menuRepository.save(Menu.create(name, price));
 
             // when
             var result = menuReadService.getMenuById(savedMenu.getId());
@@ -59,5 +78,391 @@ class MenuReadServiceTest {
                     .isInstanceOf(NotFoundException.class)
                     .hasMessage("요청한 자원을 찾을 수 없습니다");
         }
+
+        @Test
+        @DisplayName("메뉴가 없을 때 발생하는 예외는 기본적으로 스택 트레이스 없이 재사용된다")
+        void getMenuByIdWhenNotFoundReusesStacklessException() {
+            // given
+            Long menuNotSavedId = 1L;
+
+            // when
+            var first = catchThrowable(() -> menuReadService.getMenuById(menuNotSavedId));
+            var second = catchThrowable(() -> menuReadService.getMenuById(menuNotSavedId));
+
+            // then
+            assertThat(first).isSameAs(second);
+            assertThat(first.getStackTrace()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("메뉴 다건 조회 테스트")
+    class FindMenusTest {
+        @Test
+        @DisplayName("요청한 순서대로 메뉴를 조회한다")
+        void getMenusByIds() {
+            // given
+            var americano = menuRepository.save(Menu.create("아메리카노", 3000));
+            var latte = menuRepository.save(Menu.create("라떼", 4000));
+
+            // when
+            var result = menuReadService.getMenusByIds(List.of(latte.getId(), americano.getId()));
+
+            // then
+            assertThat(result.menus()).extracting("id")
+                                      .containsExactly(latte.getId(), americano.getId());
+            assertThat(result.menus()).extracting("found")
+                                      .containsExactly(true, true);
+            assertThat(result.menus().get(0).menu().name()).isEqualTo("라떼");
+            assertThat(result.menus().get(1).menu().name()).isEqualTo("아메리카노");
+        }
+
+        @Test
+        @DisplayName("id에 해당하는 메뉴가 없으면 해당 항목만 찾지 못했다고 응답한다")
+        void getMenusByIdsWhenSomeNotFound() {
+            // given
+            var americano = menuRepository.save(Menu.create("아메리카노", 3000));
+            Long menuNotSavedId = americano.getId() + 1;
+
+            // when
+            var result = menuReadService.getMenusByIds(List.of(menuNotSavedId, americano.getId()));
+
+            // then
+            assertThat(result.menus()).extracting("id")
+                                      .containsExactly(menuNotSavedId, americano.getId());
+            assertThat(result.menus()).extracting("found")
+                                      .containsExactly(false, true);
+            assertThat(result.menus().get(0).menu()).isNull();
+        }
+
+        @Test
+        @DisplayName("한 번에 조회할 수 있는 개수를 넘으면 예외를 발생시킨다")
+        void getMenusByIdsWhenTooMany() {
+            // given
+            var ids = LongStream.rangeClosed(1, MenuReadService.MAX_BATCH_SIZE + 1)
+                                .boxed()
+                                .toList();
+
+            // when & then
+            assertThatThrownBy(() -> menuReadService.getMenusByIds(ids))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessage("잘못된 요청입니다");
+        }
+    }
+
+    @Nested
+    @DisplayName("메뉴 목록 조회 테스트")
+    class FindMenuPageTest {
+        @Test
+        @DisplayName("커서를 이용해 메뉴 목록을 id 순서대로 조회한다")
+        void getMenus() {
+            // given
+            var americano = menuRepository.save(Menu.create("아메리카노", 3000));
+            var latte = menuRepository.save(Menu.create("라떼", 4000));
+            var mocha = menuRepository.save(Menu.create("모카", 4500));
+
+            // when
+            var firstPage = menuReadService.getMenus(null, 2).response();
+            var secondPage = menuReadService.getMenus(firstPage.nextCursor(), 2).response();
+
+            // then
+            assertThat(firstPage.menus()).extracting("id")
+                                         .containsExactly(americano.getId(), latte.getId());
+            assertThat(firstPage.nextCursor()).isNotNull();
+            assertThat(secondPage.menus()).extracting("id")
+                                          .containsExactly(mocha.getId());
+            assertThat(secondPage.menus().get(0).name()).isEqualTo("모카");
+            assertThat(secondPage.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("잘못된 커서로 조회하면 예외를 발생시킨다")
+        void getMenusWhenCursorIsInvalid() {
+            // when & then
+            assertThatThrownBy(() -> menuReadService.getMenus("잘못된커서", 2))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessage("잘못된 요청입니다");
+        }
+
+        @Test
+        @DisplayName("한 번에 조회할 수 있는 개수를 넘으면 예외를 발생시킨다")
+        void getMenusWhenSizeIsTooLarge() {
+            // when & then
+            assertThatThrownBy(() -> menuReadService.getMenus(null, MenuReadService.MAX_PAGE_SIZE + 1))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessage("잘못된 요청입니다");
+        }
+    }
+
+    @Nested
+    @DisplayName("메뉴 목록 필터 및 정렬 조회 테스트")
+    class FindFilteredMenuPageTest {
+        @Test
+        @DisplayName("가격 범위 안의 메뉴를 가격 순서대로 나누어 조회한다")
+        void getMenusByPriceRange() {
+            // given
+            var espresso = menuRepository.save(Menu.create("에스프레소", 2500));
+            var latte = menuRepository.save(Menu.create("라떼", 4000));
+            var americano = menuRepository.save(Menu.create("아메리카노", 3000));
+            var mocha = menuRepository.save(Menu.create("모카", 4000));
+            menuRepository.save(Menu.create("프라푸치노", 6000));
+
+            // when
+            var firstPage = menuReadService.getMenus(null, 2, 2500, 4000, "price", "asc").response();
+            var secondPage = menuReadService.getMenus(firstPage.nextCursor(), 2, 2500, 4000, "price", "asc").response();
+
+            // then
+            assertThat(firstPage.menus()).extracting("id")
+                                         .containsExactly(espresso.getId(), americano.getId());
+            assertThat(secondPage.menus()).extracting("id")
+                                          .containsExactly(latte.getId(), mocha.getId());
+            assertThat(secondPage.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("같은 가격의 메뉴는 페이지 경계에서도 빠지거나 중복되지 않는다")
+        void getMenusByPriceDescendingWithTies() {
+            // given
+            var first = menuRepository.save(Menu.create("라떼", 4000));
+            var second = menuRepository.save(Menu.create("모카", 4000));
+            var third = menuRepository.save(Menu.create("바닐라 라떼", 4000));
+
+            // when
+            var firstPage = menuReadService.getMenus(null, 2, null, null, "price", "desc").response();
+            var secondPage = menuReadService.getMenus(firstPage.nextCursor(), 2, null, null, "price", "desc").response();
+
+            // then
+            assertThat(firstPage.menus()).extracting("id")
+                                         .containsExactly(third.getId(), second.getId());
+            assertThat(secondPage.menus()).extracting("id")
+                                          .containsExactly(first.getId());
+        }
+
+        @Test
+        @DisplayName("가격이 없는 메뉴는 오름차순에서는 마지막에, 내림차순에서는 처음에 빠짐없이 조회한다")
+        void getMenusByPriceAcrossNullPrices() {
+            // given
+            var latte = menuRepository.save(Menu.create("라떼", 4000));
+            var seasonal = menuRepository.save(Menu.create("시즌 메뉴", null));
+            var americano = menuRepository.save(Menu.create("아메리카노", 3000));
+            var tasting = menuRepository.save(Menu.create("시음 메뉴", null));
+
+            // when
+            var ascending = new ArrayList<Long>();
+            var descending = new ArrayList<Long>();
+            String ascendingCursor = null;
+            String descendingCursor = null;
+            do {
+                var page = menuReadService.getMenus(ascendingCursor, 1, null, null, "price", "asc").response();
+                page.menus().forEach(menu -> ascending.add(menu.id()));
+                ascendingCursor = page.nextCursor();
+            } while (ascendingCursor != null);
+            do {
+                var page = menuReadService.getMenus(descendingCursor, 1, null, null, "price", "desc").response();
+                page.menus().forEach(menu -> descending.add(menu.id()));
+                descendingCursor = page.nextCursor();
+            } while (descendingCursor != null);
+
+            // then
+            assertThat(ascending).containsExactly(americano.getId(), latte.getId(), seasonal.getId(), tasting.getId());
+            assertThat(descending).containsExactly(tasting.getId(), seasonal.getId(), latte.getId(), americano.getId());
+        }
+
+        @Test
+        @DisplayName("이름 순서와 생성 시각 순서로 조회한다")
+        void getMenusByNameAndCreatedAt() {
+            // given
+            var mocha = menuRepository.save(Menu.create("모카", 4500));
+            var latte = menuRepository.save(Menu.create("라떼", 4000));
+            var americano = menuRepository.save(Menu.create("아메리카노", 3000));
+
+            // when
+            var byName = menuReadService.getMenus(null, 2, null, null, "name", "asc").response();
+            var byNameNext = menuReadService.getMenus(byName.nextCursor(), 2, null, null, "name", "asc").response();
+            var byCreatedAt = menuReadService.getMenus(null, 20, null, null, "createdAt", "desc").response();
+
+            // then
+            assertThat(byName.menus()).extracting("id")
+                                      .containsExactly(latte.getId(), mocha.getId());
+            assertThat(byNameNext.menus()).extracting("id")
+                                          .containsExactly(americano.getId());
+            assertThat(byCreatedAt.menus()).extracting("id")
+                                           .containsExactly(americano.getId(), latte.getId(), mocha.getId());
+        }
+
+        @Test
+        @DisplayName("정렬 기준과 다른 커서로 조회하면 예외를 발생시킨다")
+        void getMenusWhenCursorDoesNotMatchSort() {
+            // given
+            menuRepository.save(Menu.create("라떼", 4000));
+            menuRepository.save(Menu.create("모카", 4500));
+            var cursor = menuReadService.getMenus(null, 1, null, null, "price", "asc").response().nextCursor();
+
+            // when & then
+            assertThatThrownBy(() -> menuReadService.getMenus(cursor, 1, null, null, "name", "asc"))
+                    .isInstanceOf(BadRequestException.class);
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 정렬 기준이나 잘못된 가격 범위로 조회하면 예외를 발생시킨다")
+        void getMenusWhenSortOrPriceRangeIsInvalid() {
+            // when & then
+            assertThatThrownBy(() -> menuReadService.getMenus(null, 20, null, null, "version", "asc"))
+                    .isInstanceOf(BadRequestException.class);
+            assertThatThrownBy(() -> menuReadService.getMenus(null, 20, null, null, "price", "up"))
+                    .isInstanceOf(BadRequestException.class);
+            assertThatThrownBy(() -> menuReadService.getMenus(null, 20, 5000, 3000, "price", "asc"))
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("메뉴 검증자 조회 테스트")
+    class FindMenuValidatorTest {
+        @Test
+        @DisplayName("메뉴가 바뀌지 않으면 같은 ETag 를 응답한다")
+        void getMenuValidator() {
+            // given
+            var savedMenu = menuRepository.save(Menu.create("아메리카노", 3000));
+
+            // when
+            var first = MenuValidator.of(menuReadService.getMenuById(savedMenu.getId()));
+            menuCache.invalidateAll();
+            var second = MenuValidator.of(menuReadService.getMenuById(savedMenu.getId()));
+
+            // then
+            assertThat(first.etag()).isEqualTo("\"" + savedMenu.getId() + "-" + savedMenu.getVersion() + "\"");
+            assertThat(second).isEqualTo(first);
+        }
+
+        @Test
+        @DisplayName("메뉴를 수정하면 응답 본문과 함께 ETag 가 바뀐다")
+        void getMenuValidatorAfterUpdate() {
+            // given
+            var savedMenu = menuRepository.save(Menu.create("아메리카노", 3000));
+            var before = menuReadService.getMenuById(savedMenu.getId());
+
+            // when
+            menuWriteService.updateMenu(savedMenu.getId(), "라떼", 4000);
+            var after = menuReadService.getMenuById(savedMenu.getId());
+
+            // then
+            assertThat(after.name()).isEqualTo("라떼");
+            assertThat(MenuValidator.of(after).etag()).isNotEqualTo(MenuValidator.of(before).etag());
+        }
+
+        @Test
+        @DisplayName("메뉴 목록이 바뀌면 목록의 ETag 가 바뀐다")
+        void getMenusValidatorAfterUpdate() {
+            // given
+            var savedMenu = menuRepository.save(Menu.create("아메리카노", 3000));
+            menuRepository.save(Menu.create("라떼", 4000));
+            var before = menuReadService.getMenus(null, 20).validator();
+
+            // when
+            var unchanged = menuReadService.getMenus(null, 20).validator();
+            menuWriteService.updateMenu(savedMenu.getId(), "아메리카노", 3500);
+            var after = menuReadService.getMenus(null, 20).validator();
+
+            // then
+            assertThat(unchanged).isEqualTo(before);
+            assertThat(after.etag()).isNotEqualTo(before.etag());
+        }
+    }
+
+    @Nested
+    @DisplayName("메뉴 캐시 테스트")
+    class MenuCacheTest {
+        @Test
+        @DisplayName("한 번 조회한 메뉴는 캐시에서 조회한다")
+        void getMenuByIdFromCache() {
+            // given
+            var savedMenu = menuRepository.save(Menu.create("아메리카노", 3000));
+            menuReadService.getMenuById(savedMenu.getId());
+            menuRepository.deleteAllInBatch();
+
+            // when
+            var result = menuReadService.getMenuById(savedMenu.getId());
+
+            // then
+            assertThat(result.id()).isEqualTo(savedMenu.getId());
+            assertThat(result.name()).isEqualTo("아메리카노");
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 메뉴 id 도 캐시한다")
+        void getMenuByIdWhenNotFoundIsCached() {
+            // given
+            Long menuNotSavedId = 1L;
+            assertThatThrownBy(() -> menuReadService.getMenuById(menuNotSavedId))
+                    .isInstanceOf(NotFoundException.class);
+            var misses = menuCacheGets("miss");
+            var hits = menuCacheGets("hit");
+
+            // when
+            var result = catchThrowable(() -> menuReadService.getMenuById(menuNotSavedId));
+
+            // then
+            assertThat(result).isInstanceOf(NotFoundException.class)
+                              .hasMessage("요청한 자원을 찾을 수 없습니다");
+            assertThat(menuCacheGets("miss")).isEqualTo(misses);
+            assertThat(menuCacheGets("hit")).isEqualTo(hits + 1);
+        }
+
+        @Test
+        @DisplayName("메뉴를 생성하면 존재하지 않는다고 캐시된 id 가 무효화된다")
+        void createMenuInvalidatesNegativeCache() {
+            // given
+            var savedMenu = menuRepository.save(Menu.create("아메리카노", 3000));
+            Long nextMenuId = savedMenu.getId() + 1;
+            assertThatThrownBy(() -> menuReadService.getMenuById(nextMenuId))
+                    .isInstanceOf(NotFoundException.class);
+
+            // when
+            var createdMenuId = menuWriteService.createMenu("라떼", 4000);
+            var result = menuReadService.getMenuById(createdMenuId);
+
+            // then
+            assertThat(result.name()).isEqualTo("라떼");
+        }
+
+        @Test
+        @DisplayName("메뉴를 수정하면 캐시가 무효화된다")
+        void updateMenuInvalidatesCache() {
+            // given
+            var savedMenu = menuRepository.save(Menu.create("아메리카노", 3000));
+            menuReadService.getMenuById(savedMenu.getId());
+
+            // when
+            menuWriteService.updateMenu(savedMenu.getId(), "라떼", 4000);
+            var result = menuReadService.getMenuById(savedMenu.getId());
+
+            // then
+            assertThat(result.name()).isEqualTo("라떼");
+            assertThat(result.price()).isEqualTo(4000);
+        }
+
+        @Test
+        @DisplayName("메뉴를 삭제하면 캐시가 무효화된다")
+        void deleteMenuInvalidatesCache() {
+            // given
+            var savedMenu = menuRepository.save(Menu.create("아메리카노", 3000));
+            menuReadService.getMenuById(savedMenu.getId());
+
+            // when
+            menuWriteService.deleteMenu(savedMenu.getId());
+
+            // then
+            assertThatThrownBy(() -> menuReadService.getMenuById(savedMenu.getId()))
+                    .isInstanceOf(NotFoundException.class);
+        }
+    }
+
+    private double menuCacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                            .tag("cache", "menu")
+                            .tag("result", result)
+                            .functionCounter()
+                            .count();
     }
 }
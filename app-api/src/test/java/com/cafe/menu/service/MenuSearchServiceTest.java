@@ -0,0 +1,183 @@
+package com.cafe.menu.service;
+
+import com.cafe.domain.menu.Menu;
+import com.cafe.enums.MenuChangeType;
+import com.cafe.exception.BadRequestException;
+import com.cafe.menu.controller.dto.GetMenuResponse;
+import com.cafe.menu.outbox.MenuChangeMessage;
+import com.cafe.menu.search.MenuSearchIndexer;
+import com.cafe.repository.MenuRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class MenuSearchServiceTest {
+    @Autowired
+    private MenuSearchService menuSearchService;
+
+    @Autowired
+    private MenuWriteService menuWriteService;
+
+    @Autowired
+    private MenuSearchIndexer menuSearchIndexer;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @AfterEach
+    void tearDown() {
+        menuRepository.deleteAllInBatch();
+        menuSearchIndexer.rebuild();
+    }
+
+    @Nested
+    @DisplayName("메뉴 검색 테스트")
+    class SearchMenusTest {
+        @Test
+        @DisplayName("이름의 일부로 메뉴를 검색한다")
+        void searchMenusBySubstring() {
+            // given
+            menuWriteService.createMenu("아이스 아메리카노", 3500);
+            menuWriteService.createMenu("아메리카노", 3000);
+            menuWriteService.createMenu("카페라떼", 4000);
+            menuSearchIndexer.refresh();
+
+            // when
+            var result = menuSearchService.searchMenus("메리카", false, null, 20);
+
+            // then
+            assertThat(result.menus()).extracting(GetMenuResponse::name)
+                                      .containsExactly("아이스 아메리카노", "아메리카노");
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("접두어 검색은 이름이 검색어로 시작하는 메뉴만 찾는다")
+        void searchMenusByPrefix() {
+            // given
+            menuWriteService.createMenu("아이스 아메리카노", 3500);
+            menuWriteService.createMenu("아메리카노", 3000);
+            menuSearchIndexer.refresh();
+
+            // when
+            var result = menuSearchService.searchMenus("아메", true, null, 20);
+
+            // then
+            assertThat(result.menus()).extracting(GetMenuResponse::name)
+                                      .containsExactly("아메리카노");
+        }
+
+        @Test
+        @DisplayName("초성으로 메뉴를 검색한다")
+        void searchMenusByChoseong() {
+            // given
+            menuWriteService.createMenu("아메리카노", 3000);
+            menuWriteService.createMenu("카페라떼", 4000);
+            menuSearchIndexer.refresh();
+
+            // when
+            var result = menuSearchService.searchMenus("ㅋㅍㄹ", false, null, 20);
+
+            // then
+            assertThat(result.menus()).extracting(GetMenuResponse::name)
+                                      .containsExactly("카페라떼");
+        }
+
+        @Test
+        @DisplayName("대소문자와 공백을 무시하고 검색한다")
+        void searchMenusIgnoringCaseAndWhitespace() {
+            // given
+            menuWriteService.createMenu("Cold Brew", 4500);
+            menuSearchIndexer.refresh();
+
+            // when
+            var result = menuSearchService.searchMenus("coldbr", true, null, 20);
+
+            // then
+            assertThat(result.menus()).extracting(GetMenuResponse::name)
+                                      .containsExactly("Cold Brew");
+        }
+
+        @Test
+        @DisplayName("검색 결과를 커서로 나누어 조회한다")
+        void searchMenusWithCursor() {
+            // given
+            menuWriteService.createMenu("바닐라 라떼", 4500);
+            menuWriteService.createMenu("카페라떼", 4000);
+            menuWriteService.createMenu("녹차 라떼", 4500);
+            menuSearchIndexer.refresh();
+
+            // when
+            var firstPage = menuSearchService.searchMenus("라떼", false, null, 2);
+            var secondPage = menuSearchService.searchMenus("라떼", false, firstPage.nextCursor(), 2);
+
+            // then
+            assertThat(firstPage.menus()).extracting(GetMenuResponse::name)
+                                         .containsExactly("바닐라 라떼", "카페라떼");
+            assertThat(secondPage.menus()).extracting(GetMenuResponse::name)
+                                          .containsExactly("녹차 라떼");
+            assertThat(secondPage.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("검색어가 비어 있으면 예외를 발생시킨다")
+        void searchMenusWhenQueryBlank() {
+            // when & then
+            assertThatThrownBy(() -> menuSearchService.searchMenus(" ", false, null, 20))
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("검색 색인 갱신 테스트")
+    class RefreshIndexTest {
+        @Test
+        @DisplayName("수정되거나 삭제된 메뉴가 색인에 반영된다")
+        void refreshChangedMenus() {
+            // given
+            var americanoId = menuWriteService.createMenu("아메리카노", 3000);
+            var latteId = menuWriteService.createMenu("카페라떼", 4000);
+            menuSearchIndexer.refresh();
+
+            // when
+            menuWriteService.updateMenu(americanoId, "콜드브루", 4500);
+            menuWriteService.deleteMenu(latteId);
+            menuSearchIndexer.refresh();
+
+            // then
+            assertThat(menuSearchService.searchMenus("아메리카노", false, null, 20).menus()).isEmpty();
+            assertThat(menuSearchService.searchMenus("라떼", false, null, 20).menus()).isEmpty();
+            assertThat(menuSearchService.searchMenus("콜드", false, null, 20).menus())
+                    .extracting(GetMenuResponse::price)
+                    .containsExactly(4500);
+        }
+
+        @Test
+        @DisplayName("다른 노드에서 변경된 메뉴도 아웃박스 이벤트로 색인에 반영된다")
+        void refreshMenusChangedOnOtherNode() {
+            // given
+            var menu = menuRepository.save(Menu.create("아메리카노", 3000));
+
+            // when
+            menuSearchIndexer.publish(List.of(new MenuChangeMessage(1L, 1L, menu.getId(), MenuChangeType.CREATED, LocalDateTime.now())));
+            menuSearchIndexer.refresh();
+
+            // then
+            assertThat(menuSearchService.searchMenus("아메리카노", false, null, 20).menus())
+                    .extracting(GetMenuResponse::id)
+                    .containsExactly(menu.getId());
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.cafe.menu.service;
 
 import com.cafe.domain.menu.Menu;
+import com.cafe.menu.controller.dto.BulkUpsertMenuResponse;
+import com.cafe.menu.controller.dto.CreateMenuRequest;
+import com.cafe.exception.BadRequestException;
+import com.cafe.exception.ConflictException;
 import com.cafe.exception.NotFoundException;
 import com.cafe.repository.MenuRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -11,6 +15,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -69,6 +77,46 @@ class MenuWriteServiceTest {
         }
 
 
+        @Test
+        @DisplayName("버전이 일치하면 메뉴를 수정하고 버전을 올린다")
+        void updateMenuWithVersion() {
+            // given
+            var savedMenu = menuRepository.save(Menu.create("아메리카노", 3000));
+
+            // when
+            menuWriteService.updateMenu(savedMenu.getId(), "라떼", 4000, savedMenu.getVersion());
+            var updatedMenu = menuRepository.findById(savedMenu.getId()).get();
+
+            // then
+            assertThat(updatedMenu.getName()).isEqualTo("라떼");
+            assertThat(updatedMenu.getPrice()).isEqualTo(4000);
+            assertThat(updatedMenu.getVersion()).isEqualTo(savedMenu.getVersion() + 1);
+            assertThat(updatedMenu.getUpdatedAt()).isAfterOrEqualTo(savedMenu.getUpdatedAt());
+        }
+
+        @Test
+        @DisplayName("버전이 일치하지 않으면 예외를 발생시킨다")
+        void updateMenuWhenVersionConflicts() {
+            // given
+            var savedMenu = menuRepository.save(Menu.create("아메리카노", 3000));
+            menuWriteService.updateMenu(savedMenu.getId(), "라떼", 4000, savedMenu.getVersion());
+
+            // when & then
+            assertThatThrownBy(() -> menuWriteService.updateMenu(savedMenu.getId(), "모카", 4500, savedMenu.getVersion()))
+                    .isInstanceOf(ConflictException.class)
+                    .hasMessage("다른 요청에 의해 자원이 변경되었습니다");
+            assertThat(menuRepository.findById(savedMenu.getId()).get().getName()).isEqualTo("라떼");
+        }
+
+        @Test
+        @DisplayName("버전을 보냈지만 id에 해당하는 메뉴가 없으면 예외를 발생시킨다")
+        void updateMenuWithVersionWhenNotFound() {
+            // when & then
+            assertThatThrownBy(() -> menuWriteService.updateMenu(1L, "아메리카노", 3000, 0L))
+                    .isInstanceOf(NotFoundException.class)
+                    .hasMessage("요청한 자원을 찾을 수 없습니다");
+        }
+
         @Test
         @DisplayName("id에 해당하는 메뉴가 없으면 예외를 발생시킨다")
         void updateMenuWhenNotFound() {
@@ -104,6 +152,15 @@ class MenuWriteServiceTest {
             assertThat(result.isEmpty()).isEqualTo(true);
         }
 
+        @Test
+        @DisplayName("삭제할 메뉴가 없으면 예외를 발생시킨다")
+        void deleteMenuByIdWhenNotFound() {
+            // when & then
+            assertThatThrownBy(() -> menuWriteService.deleteMenu(1L))
+                    .isInstanceOf(NotFoundException.class)
+                    .hasMessage("요청한 자원을 찾을 수 없습니다");
+        }
+
         @Test
         @DisplayName("id에 해당하는 메뉴가 없으면 예외를 발생시킨다")
         void deleteMenuWhenNotFound() {
@@ -118,4 +175,107 @@ class MenuWriteServiceTest {
                     .hasMessage("요청한 자원을 찾을 수 없습니다");
         }
     }
+
+    @Nested
+    @DisplayName("메뉴 일괄 삭제 테스트")
+    class DeleteMenusTest {
+        @Test
+        @DisplayName("여러 메뉴를 한 번에 삭제한다")
+        void deleteMenus() {
+            // given
+            var americano = menuRepository.save(Menu.create("아메리카노", 3000));
+            var latte = menuRepository.save(Menu.create("라떼", 4000));
+            var mocha = menuRepository.save(Menu.create("모카", 4500));
+            Long menuNotSavedId = mocha.getId() + 1;
+
+            // when
+            var result = menuWriteService.deleteMenus(List.of(americano.getId(), latte.getId(), latte.getId(), menuNotSavedId));
+
+            // then
+            assertThat(result.ids()).containsExactly(americano.getId(), latte.getId(), menuNotSavedId);
+            assertThat(result.deletedCount()).isEqualTo(2);
+            assertThat(menuRepository.findAll()).extracting("id")
+                                                .containsExactly(mocha.getId());
+        }
+
+        @Test
+        @DisplayName("한 번에 삭제할 수 있는 개수를 넘으면 예외를 발생시킨다")
+        void deleteMenusWhenTooMany() {
+            // given
+            var ids = LongStream.rangeClosed(1, MenuWriteService.MAX_DELETE_SIZE + 1)
+                                .boxed()
+                                .toList();
+
+            // when & then
+            assertThatThrownBy(() -> menuWriteService.deleteMenus(ids))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessage("잘못된 요청입니다");
+        }
+    }
+
+    @Nested
+    @DisplayName("메뉴 일괄 저장 테스트")
+    class UpsertMenusTest {
+        @Test
+        @DisplayName("여러 묶음에 걸친 메뉴를 한 번에 생성한다")
+        void upsertMenus() {
+            // given
+            var requests = IntStream.range(0, 250)
+                                    .mapToObj(i -> new CreateMenuRequest("메뉴" + i, 1000 + i))
+                                    .toList();
+
+            // when
+            var result = menuWriteService.upsertMenus(requests, false);
+
+            // then
+            assertThat(result.menus()).hasSize(250);
+            assertThat(result.menus()).extracting("result")
+                                      .containsOnly(BulkUpsertMenuResponse.Result.CREATED);
+            assertThat(result.menus().get(249).index()).isEqualTo(249);
+            assertThat(result.menus().get(249).name()).isEqualTo("메뉴249");
+            assertThat(menuRepository.count()).isEqualTo(250);
+            assertThat(menuRepository.findById(result.menus().get(249).id()).get().getPrice()).isEqualTo(1249);
+        }
+
+        @Test
+        @DisplayName("이미 있는 이름의 메뉴는 충돌로 응답한다")
+        void upsertMenusWhenNameConflicts() {
+            // given
+            var savedMenu = menuRepository.save(Menu.create("아메리카노", 3000));
+            var requests = List.of(new CreateMenuRequest("아메리카노", 3500),
+                                   new CreateMenuRequest("라떼", 4000),
+                                   new CreateMenuRequest("라떼", 4500));
+
+            // when
+            var result = menuWriteService.upsertMenus(requests, false);
+
+            // then
+            assertThat(result.menus()).extracting("result")
+                                      .containsExactly(BulkUpsertMenuResponse.Result.CONFLICT,
+                                                       BulkUpsertMenuResponse.Result.CREATED,
+                                                       BulkUpsertMenuResponse.Result.CONFLICT);
+            assertThat(result.menus().get(0).id()).isEqualTo(savedMenu.getId());
+            assertThat(menuRepository.findById(savedMenu.getId()).get().getPrice()).isEqualTo(3000);
+            assertThat(menuRepository.count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("upsert 이면 이미 있는 이름의 메뉴를 수정한다")
+        void upsertMenusWhenUpsert() {
+            // given
+            var savedMenu = menuRepository.save(Menu.create("아메리카노", 3000));
+            var requests = List.of(new CreateMenuRequest("아메리카노", 3500),
+                                   new CreateMenuRequest("라떼", 4000));
+
+            // when
+            var result = menuWriteService.upsertMenus(requests, true);
+
+            // then
+            assertThat(result.menus()).extracting("result")
+                                      .containsExactly(BulkUpsertMenuResponse.Result.UPDATED,
+                                                       BulkUpsertMenuResponse.Result.CREATED);
+            assertThat(result.menus().get(0).id()).isEqualTo(savedMenu.getId());
+            assertThat(menuRepository.findById(savedMenu.getId()).get().getPrice()).isEqualTo(3500);
+        }
+    }
 }
@@ -0,0 +1,147 @@
+package com.cafe.menu.snapshot;
+
+import com.cafe.domain.menu.Menu;
+import com.cafe.repository.MenuRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class MenuSnapshotServiceTest {
+    @Autowired
+    private MenuSnapshotService menuSnapshotService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @AfterEach
+    void tearDown() {
+        menuRepository.deleteAllInBatch();
+    }
+
+    @Nested
+    @DisplayName("메뉴 스냅샷 내보내기 테스트")
+    class ExportMenusTest {
+        @Test
+        @DisplayName("모든 메뉴를 id 순서대로 한 줄에 하나씩 내보낸다")
+        void exportMenus() throws IOException {
+            // given
+            var americano = menuRepository.save(Menu.create("아메리카노", 3000));
+            var latte = menuRepository.save(Menu.create("라떼", 4000));
+            var outputStream = new ByteArrayOutputStream();
+
+            // when
+            var result = menuSnapshotService.exportMenus(outputStream);
+
+            // then
+            assertThat(result).isEqualTo(2);
+            assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(
+                    "{\"id\":" + americano.getId() + ",\"name\":\"아메리카노\",\"price\":3000}\n"
+                    + "{\"id\":" + latte.getId() + ",\"name\":\"라떼\",\"price\":4000}\n");
+        }
+    }
+
+    @Nested
+    @DisplayName("메뉴 스냅샷 가져오기 테스트")
+    class ImportMenusTest {
+        @Test
+        @DisplayName("내보낸 스냅샷을 여러 묶음에 걸쳐 다시 가져온다")
+        void importMenus() throws IOException {
+            // given
+            IntStream.range(0, 250)
+                     .forEach(i -> menuRepository.save(Menu.create("메뉴" + i, 1000 + i)));
+            var outputStream = new ByteArrayOutputStream();
+            menuSnapshotService.exportMenus(outputStream);
+            menuRepository.deleteAllInBatch();
+
+            // when
+            var result = menuSnapshotService.importMenus(new ByteArrayInputStream(outputStream.toByteArray()), false);
+
+            // then
+            assertThat(result.created()).isEqualTo(250);
+            assertThat(result.conflicted()).isZero();
+            assertThat(result.failedLine()).isNull();
+            assertThat(menuRepository.count()).isEqualTo(250);
+        }
+
+        @Test
+        @DisplayName("이미 있는 메뉴는 upsert 여부에 따라 충돌 또는 수정으로 집계한다")
+        void importMenusWhenNameExists() throws IOException {
+            // given
+            menuRepository.save(Menu.create("아메리카노", 3000));
+            var snapshot = """
+                    {"id":1,"name":"아메리카노","price":3500}
+                    {"id":2,"name":"라떼","price":4000}
+                    """;
+
+            // when
+            var conflicted = menuSnapshotService.importMenus(toInputStream(snapshot), false);
+            var updated = menuSnapshotService.importMenus(toInputStream(snapshot), true);
+
+            // then
+            assertThat(conflicted.created()).isEqualTo(1);
+            assertThat(conflicted.conflicted()).isEqualTo(1);
+            assertThat(updated.updated()).isEqualTo(2);
+            assertThat(menuRepository.findAll()).extracting("price")
+                                                .containsExactlyInAnyOrder(3500, 4000);
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 메뉴는 건너뛰고 집계한다")
+        void importMenusWhenInvalid() throws IOException {
+            // given
+            var snapshot = """
+                    {"id":1,"name":"","price":3000}
+                    {"id":2,"name":"라떼","price":100}
+                    {"id":3,"name":"모카","price":4500}
+                    """;
+
+            // when
+            var result = menuSnapshotService.importMenus(toInputStream(snapshot), false);
+
+            // then
+            assertThat(result.created()).isEqualTo(1);
+            assertThat(result.invalid()).isEqualTo(2);
+            assertThat(menuRepository.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 줄을 만나면 그 전 줄까지만 가져오고 줄 번호를 알려준다")
+        void importMenusWhenMalformed() throws IOException {
+            // given
+            var snapshot = IntStream.rangeClosed(1, 150)
+                                    .mapToObj(i -> "{\"id\":" + i + ",\"name\":\"메뉴" + i + "\",\"price\":" + (1000 + i) + "}\n")
+                                    .collect(Collectors.joining())
+                           + "{\"id\":151,\"name\":\"메뉴151\",,}\n"
+                           + "{\"id\":152,\"name\":\"메뉴152\",\"price\":1152}\n";
+
+            // when
+            var result = menuSnapshotService.importMenus(toInputStream(snapshot), false);
+
+            // then
+            assertThat(result.created()).isEqualTo(150);
+            assertThat(result.failedLine()).isEqualTo(151);
+            assertThat(menuRepository.count()).isEqualTo(150);
+            assertThat(menuRepository.findAll()).extracting("name")
+                                                .doesNotContain("메뉴152");
+        }
+    }
+
+    private static ByteArrayInputStream toInputStream(String snapshot) {
+        return new ByteArrayInputStream(snapshot.getBytes(StandardCharsets.UTF_8));
+    }
+}
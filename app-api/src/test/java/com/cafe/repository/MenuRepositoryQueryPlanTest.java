@@ -0,0 +1,117 @@
+package com.cafe.repository;
+
+import com.cafe.domain.menu.Menu;
+import com.cafe.enums.MenuSortKey;
+import com.cafe.repository.condition.MenuListCondition;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.cafe.repository.MenuRepositoryQueryPlanTest$CapturingStatementInspector")
+class MenuRepositoryQueryPlanTest {
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        menuRepository.saveAll(IntStream.rangeClosed(1, 200)
+                                        .mapToObj(i -> Menu.create("메뉴" + i, 1000 + (i % 50) * 100))
+                                        .toList());
+        jdbcTemplate.execute("ANALYZE");
+        CapturingStatementInspector.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        menuRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("가격 범위 조회는 가격 인덱스만으로 범위와 정렬을 처리한다")
+    void priceRangeUsesPriceIndex() {
+        // when
+        var plan = explain(new MenuListCondition(2000, 3000, MenuSortKey.PRICE, false, null, null), 2000, 3000, 21);
+
+        // then
+        assertThat(plan).doesNotContain("tableScan")
+                        .contains("IDX_MENU_PRICE_ID")
+                        .contains("index sorted");
+    }
+
+    @Test
+    @DisplayName("가격 역순 다음 페이지 조회는 가격 인덱스로 범위를 좁힌다")
+    void priceKeysetUsesPriceIndex() {
+        // when
+        var plan = explain(new MenuListCondition(null, 4000, MenuSortKey.PRICE, true, 3000, 100L), 4000, 3000, 3000, 100L, 21);
+
+        // then
+        assertThat(plan).doesNotContain("tableScan")
+                        .contains("IDX_MENU_PRICE_ID");
+    }
+
+    @Test
+    @DisplayName("생성 시각 역순 다음 페이지 조회는 생성 시각 인덱스로 범위를 좁힌다")
+    void createdAtKeysetUsesCreatedAtIndex() {
+        // given
+        var lastCreatedAt = LocalDateTime.now();
+
+        // when
+        var plan = explain(new MenuListCondition(null, null, MenuSortKey.CREATED_AT, true, lastCreatedAt, 100L), lastCreatedAt, lastCreatedAt, 100L, 21);
+
+        // then
+        assertThat(plan).doesNotContain("tableScan")
+                        .contains("IDX_MENU_CREATED_AT_ID");
+    }
+
+    @Test
+    @DisplayName("이름 순서 조회는 이름 유니크 인덱스를 사용한다")
+    void nameKeysetUsesUniqueIndex() {
+        // when
+        var plan = explain(new MenuListCondition(null, null, MenuSortKey.NAME, false, "메뉴5", 5L), "메뉴5", 21);
+
+        // then
+        assertThat(plan).doesNotContain("tableScan")
+                        .contains("index sorted");
+    }
+
+    private String explain(MenuListCondition condition, Object... parameters) {
+        menuRepository.findSummaries(condition, 21);
+
+        return jdbcTemplate.queryForObject("EXPLAIN " + CapturingStatementInspector.last(), String.class, parameters);
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+        private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        static void clear() {
+            statements.clear();
+        }
+
+        static String last() {
+            return statements.get(statements.size() - 1);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
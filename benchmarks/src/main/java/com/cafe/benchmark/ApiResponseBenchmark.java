@@ -0,0 +1,93 @@
+package com.cafe.benchmark;
+
+import com.cafe.dto.ApiResponse;
+import com.cafe.menu.cache.MenuCacheProperties;
+import com.cafe.menu.cache.MenuResponseBodyCache;
+import com.cafe.menu.controller.dto.GetMenuPageResponse;
+import com.cafe.menu.controller.dto.GetMenuResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ApiResponseBenchmark {
+    private ObjectMapper objectMapper;
+    private GetMenuResponse menu;
+    private ApiResponse<GetMenuResponse> response;
+    private GetMenuPageResponse page;
+    private MenuResponseBodyCache menuResponseBodyCache;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        menu = new GetMenuResponse(1L, "아메리카노", 3000, 0L);
+        response = ApiResponse.success("메뉴가 조회되었습니다.", menu);
+        page = new GetMenuPageResponse(LongStream.rangeClosed(1, 20)
+                                                 .mapToObj(id -> new GetMenuResponse(id, "아메리카노" + id, 3000, 0L))
+                                                 .toList(), "MjA");
+
+        var serverProperties = new ServerProperties();
+        serverProperties.getCompression().setEnabled(true);
+        menuResponseBodyCache = new MenuResponseBodyCache(new MenuCacheProperties(10_000, Duration.ofMinutes(10), Duration.ofSeconds(30), Duration.ofSeconds(3), 1_000),
+                                                          serverProperties,
+                                                          objectMapper);
+    }
+
+    @Benchmark
+    public ApiResponse<GetMenuResponse> createSuccessResponse() {
+        return ApiResponse.success("메뉴가 조회되었습니다.", menu);
+    }
+
+    @Benchmark
+    public byte[] serializeSuccessResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] createAndSerializeSuccessResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ApiResponse.success("메뉴가 조회되었습니다.", menu));
+    }
+
+    @Benchmark
+    public byte[] cachedSuccessResponseBody() {
+        return menuResponseBodyCache.getBody(menu, cachedMenu -> ApiResponse.success("메뉴가 조회되었습니다.", cachedMenu)).body();
+    }
+
+    @Benchmark
+    public byte[] serializeAndGzipMenuPage() throws IOException {
+        var outputStream = new ByteArrayOutputStream();
+        try (var gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            objectMapper.writeValue(gzipOutputStream, ApiResponse.success("메뉴 목록이 조회되었습니다.", page));
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] cachedGzipMenuPageBody() {
+        return menuResponseBodyCache.getPageBody("\"page\"", page, cachedPage -> ApiResponse.success("메뉴 목록이 조회되었습니다.", cachedPage)).gzipBody();
+    }
+}
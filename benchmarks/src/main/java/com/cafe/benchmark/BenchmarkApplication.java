@@ -0,0 +1,33 @@
+package com.cafe.benchmark;
+
+import com.cafe.CafeAppApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkApplication {
+    private static final List<String> H2_ARGS = List.of(
+            "--spring.main.banner-mode=off",
+            "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--logging.level.root=warn"
+    );
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String... args) {
+        var allArgs = new ArrayList<>(H2_ARGS);
+        allArgs.addAll(List.of(args));
+
+        return new SpringApplicationBuilder(CafeAppApplication.class)
+                .web(webApplicationType)
+                .run(allArgs.toArray(String[]::new));
+    }
+}
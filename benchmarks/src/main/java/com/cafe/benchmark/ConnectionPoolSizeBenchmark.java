@@ -0,0 +1,80 @@
+package com.cafe.benchmark;
+
+import com.cafe.menu.service.MenuWriteService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(64)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ConnectionPoolSizeBenchmark {
+    @Param({"2", "4", "8", "16", "32"})
+    public int poolSize;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest getMenuPageRequest;
+    private HttpRequest getFilteredMenuPageRequest;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(WebApplicationType.SERVLET,
+                                             "--server.port=0",
+                                             "--server.tomcat.threads.max=64",
+                                             "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                                             "--spring.datasource.hikari.minimum-idle=" + poolSize,
+                                             "--spring.datasource.hikari.connection-timeout=30000");
+        var menuWriteService = context.getBean(MenuWriteService.class);
+        for (int i = 0; i < 200; i++) {
+            menuWriteService.createMenu("메뉴" + i, 3000 + i * 10);
+        }
+
+        var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        httpClient = HttpClient.newBuilder()
+                               .version(HttpClient.Version.HTTP_1_1)
+                               .build();
+        getMenuPageRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/menus?size=20")).build();
+        getFilteredMenuPageRequest = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/api/v1/menus?size=20&minPrice=4000&sort=price&direction=desc")).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getMenuPage() throws IOException, InterruptedException {
+        return httpClient.send(getMenuPageRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    public int getFilteredMenuPage() throws IOException, InterruptedException {
+        return httpClient.send(getFilteredMenuPageRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,77 @@
+package com.cafe.benchmark;
+
+import com.cafe.dto.ApiResponse;
+import com.cafe.menu.controller.dto.GetMenuPageResponse;
+import com.cafe.menu.controller.dto.GetMenuResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ContentFormatBenchmark {
+    private static final TypeReference<ApiResponse<GetMenuPageResponse>> PAGE_RESPONSE_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<GetMenuPageResponse> response;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        response = ApiResponse.success("메뉴 목록이 조회되었습니다.",
+                                       new GetMenuPageResponse(LongStream.rangeClosed(1, 20)
+                                                                         .mapToObj(id -> new GetMenuResponse(id, "아메리카노" + id, 3000, id))
+                                                                         .toList(), "MjA"));
+        payload = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serialize(PayloadSize payloadSize) throws IOException {
+        var bytes = objectMapper.writeValueAsBytes(response);
+        payloadSize.payloadBytes = bytes.length;
+
+        return bytes;
+    }
+
+    @Benchmark
+    public ApiResponse<GetMenuPageResponse> deserialize(PayloadSize payloadSize) throws IOException {
+        payloadSize.payloadBytes = payload.length;
+
+        return objectMapper.readValue(payload, PAGE_RESPONSE_TYPE);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long payloadBytes;
+    }
+}
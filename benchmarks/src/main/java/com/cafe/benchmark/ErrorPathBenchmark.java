@@ -0,0 +1,75 @@
+package com.cafe.benchmark;
+
+import com.cafe.controllerAdvice.CustomExceptionAdvice;
+import com.cafe.dto.ApiResponse;
+import com.cafe.enums.ErrorCode;
+import com.cafe.exception.CustomException;
+import com.cafe.exception.NotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ErrorPathBenchmark {
+    @Param({"16", "128"})
+    private int stackDepth;
+
+    private CustomExceptionAdvice customExceptionAdvice;
+    private HttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        customExceptionAdvice = new CustomExceptionAdvice();
+        request = (HttpServletRequest) Proxy.newProxyInstance(HttpServletRequest.class.getClassLoader(),
+                                                              new Class<?>[]{HttpServletRequest.class},
+                                                              (proxy, method, args) -> null);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<?>> notFoundWithStackTrace() {
+        try {
+            throwAt(stackDepth, () -> new NotFoundException(ErrorCode.NOT_FOUND.getMessage(), ErrorCode.NOT_FOUND.getCode(), ErrorCode.NOT_FOUND.getStatus()));
+            return null;
+        } catch (CustomException ex) {
+            return ResponseEntity.status(ex.getStatus())
+                                 .body(ApiResponse.createErrorResponse(ex.getMessage(), ex.getCode()));
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<?>> notFoundCached() {
+        try {
+            throwAt(stackDepth, NotFoundException::of);
+            return null;
+        } catch (CustomException ex) {
+            return customExceptionAdvice.handleMethodArgumentNotValidException(ex, request);
+        }
+    }
+
+    private static void throwAt(int depth, Supplier<CustomException> exception) {
+        if (depth == 0) {
+            throw exception.get();
+        }
+
+        throwAt(depth - 1, exception);
+    }
+}
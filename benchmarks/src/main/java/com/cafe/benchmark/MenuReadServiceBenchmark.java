@@ -0,0 +1,58 @@
+package com.cafe.benchmark;
+
+import com.cafe.menu.cache.MenuCache;
+import com.cafe.menu.controller.dto.GetMenuResponse;
+import com.cafe.menu.service.MenuReadService;
+import com.cafe.menu.service.MenuWriteService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MenuReadServiceBenchmark {
+    private ConfigurableApplicationContext context;
+    private MenuReadService menuReadService;
+    private MenuCache menuCache;
+    private Long menuId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(WebApplicationType.NONE);
+        menuReadService = context.getBean(MenuReadService.class);
+        menuCache = context.getBean(MenuCache.class);
+        menuId = context.getBean(MenuWriteService.class).createMenu("아메리카노", 3000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public GetMenuResponse getMenuByIdCached() {
+        return menuReadService.getMenuById(menuId);
+    }
+
+    @Benchmark
+    public GetMenuResponse getMenuByIdUncached() {
+        menuCache.invalidate(menuId);
+        return menuReadService.getMenuById(menuId);
+    }
+}
@@ -0,0 +1,63 @@
+package com.cafe.benchmark;
+
+import com.cafe.menu.controller.dto.GetMenuResponse;
+import com.cafe.menu.search.MenuSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MenuSearchIndexBenchmark {
+    private static final String[] PREFIXES = {"아이스", "핫", "디카페인", "오늘의", "시즌", "Cold"};
+    private static final String[] NAMES = {"아메리카노", "카페라떼", "바닐라 라떼", "카라멜 마끼아또", "콜드브루", "녹차 라떼", "Brew", "에스프레소"};
+
+    @Param({"10000", "100000"})
+    private int menuCount;
+
+    private MenuSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new MenuSearchIndex();
+        for (long id = 1; id <= menuCount; id++) {
+            var name = PREFIXES[(int) (id % PREFIXES.length)] + " " + NAMES[(int) (id % NAMES.length)] + " " + id;
+            index.put(new GetMenuResponse(id, name, 3000, 0L));
+        }
+    }
+
+    @Benchmark
+    public List<GetMenuResponse> searchSubstring() {
+        return index.search("라떼", false, 0L, 21);
+    }
+
+    @Benchmark
+    public List<GetMenuResponse> searchPrefix() {
+        return index.search("디카페인 카라", true, 0L, 21);
+    }
+
+    @Benchmark
+    public List<GetMenuResponse> searchChoseong() {
+        return index.search("ㅋㄹㅁ", false, 0L, 21);
+    }
+
+    @Benchmark
+    public List<GetMenuResponse> searchRareTerm() {
+        return index.search("99999", false, 0L, 21);
+    }
+}
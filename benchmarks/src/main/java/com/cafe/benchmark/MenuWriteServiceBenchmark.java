@@ -0,0 +1,55 @@
+package com.cafe.benchmark;
+
+import com.cafe.menu.service.MenuWriteService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MenuWriteServiceBenchmark {
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private MenuWriteService menuWriteService;
+    private Long menuId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(WebApplicationType.NONE);
+        menuWriteService = context.getBean(MenuWriteService.class);
+        menuId = menuWriteService.createMenu("아메리카노", 3000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long createMenu() {
+        return menuWriteService.createMenu("메뉴" + sequence.incrementAndGet(), 3000);
+    }
+
+    @Benchmark
+    public Long updateMenu() {
+        return menuWriteService.updateMenu(menuId, "아메리카노", 3000 + (int) (sequence.incrementAndGet() % 1000));
+    }
+}
@@ -0,0 +1,50 @@
+package com.cafe.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(5)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class StartupBenchmark {
+    @Param({"flyway", "create-drop"})
+    public String schema;
+
+    @Benchmark
+    public int timeToFirstRequest() throws IOException, InterruptedException {
+        var context = "flyway".equals(schema)
+                ? BenchmarkApplication.start(WebApplicationType.SERVLET, "--server.port=0")
+                : BenchmarkApplication.start(WebApplicationType.SERVLET, "--server.port=0",
+                                             "--spring.flyway.enabled=false",
+                                             "--spring.jpa.hibernate.ddl-auto=create-drop");
+
+        try (context) {
+            var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/menus")).build();
+
+            return HttpClient.newHttpClient()
+                             .send(request, HttpResponse.BodyHandlers.discarding())
+                             .statusCode();
+        }
+    }
+}
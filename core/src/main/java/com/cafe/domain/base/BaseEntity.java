@@ -12,7 +12,7 @@ import java.util.Objects;
 @MappedSuperclass
 abstract public class BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @Override
@@ -11,7 +11,7 @@ import lombok.NoArgsConstructor;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Menu extends BaseAuditEntity {
-    @Column(unique = true)
+    @Column(nullable = false, unique = true)
     private String name;
 
     private Integer price;
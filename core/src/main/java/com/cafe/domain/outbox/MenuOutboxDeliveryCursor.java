@@ -0,0 +1,33 @@
+package com.cafe.domain.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MenuOutboxDeliveryCursor {
+    @Id
+    @Column(length = 64)
+    private String publisher;
+
+    @Column(nullable = false)
+    private Long lastSequence;
+
+    private MenuOutboxDeliveryCursor(String publisher, Long lastSequence) {
+        this.publisher = publisher;
+        this.lastSequence = lastSequence;
+    }
+
+    public static MenuOutboxDeliveryCursor create(String publisher) {
+        return new MenuOutboxDeliveryCursor(publisher, 0L);
+    }
+
+    public void advance(long sequence) {
+        lastSequence = Math.max(lastSequence, sequence);
+    }
+}
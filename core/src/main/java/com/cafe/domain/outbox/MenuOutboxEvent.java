@@ -0,0 +1,47 @@
+package com.cafe.domain.outbox;
+
+import com.cafe.domain.base.BaseEntity;
+import com.cafe.enums.MenuChangeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MenuOutboxEvent extends BaseEntity {
+    @Column(nullable = false)
+    private Long menuId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private MenuChangeType type;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    private LocalDateTime publishedAt;
+
+    private Long relaySequence;
+
+    private MenuOutboxEvent(Long menuId, MenuChangeType type, LocalDateTime occurredAt) {
+        this.menuId = menuId;
+        this.type = type;
+        this.occurredAt = occurredAt;
+    }
+
+    public static MenuOutboxEvent create(Long menuId, MenuChangeType type, LocalDateTime occurredAt) {
+        return new MenuOutboxEvent(menuId, type, occurredAt);
+    }
+
+    public void publish(long relaySequence, LocalDateTime publishedAt) {
+        this.relaySequence = relaySequence;
+        this.publishedAt = publishedAt;
+    }
+}
@@ -6,13 +6,21 @@ import java.util.Map;
 public record ApiResponse<T>(boolean success, String message, String code, T data,
                              Map<String, String> validation) {
     public static <K> ApiResponse<K> success(String message, K data) {
-        return new ApiResponse<>(true, message, "OK", data, new HashMap<>());
+        return new ApiResponse<>(true, message, "OK", data, Map.of());
     }
 
     public static ApiResponse<?> createErrorResponse(String message, String code) {
         return new ApiResponse<>(false, message, code, null, new HashMap<>());
     }
 
+    public static ApiResponse<?> errorResponse(String message, String code) {
+        return new ApiResponse<>(false, message, code, null, Map.of());
+    }
+
+    public static <K> ApiResponse<K> errorResponse(String message, String code, K data) {
+        return new ApiResponse<>(false, message, code, data, Map.of());
+    }
+
     public void addValidation(String field, String message) {
         this.validation.put(field, message);
     }
@@ -5,7 +5,10 @@ import lombok.Getter;
 @Getter
 public enum ErrorCode {
     BAD_REQUEST(400, "BAD_REQUEST", "잘못된 요청입니다"),
-    NOT_FOUND(404, "NOT_FOUND", "요청한 자원을 찾을 수 없습니다");
+    NOT_FOUND(404, "NOT_FOUND", "요청한 자원을 찾을 수 없습니다"),
+    CONFLICT(409, "CONFLICT", "다른 요청에 의해 자원이 변경되었습니다"),
+    TOO_MANY_REQUESTS(429, "TOO_MANY_REQUESTS", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요"),
+    SERVICE_UNAVAILABLE(503, "SERVICE_UNAVAILABLE", "요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해 주세요");
 
     final int status;
 
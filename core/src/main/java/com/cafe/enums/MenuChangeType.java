@@ -0,0 +1,7 @@
+package com.cafe.enums;
+
+public enum MenuChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
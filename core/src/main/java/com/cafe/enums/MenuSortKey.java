@@ -0,0 +1,26 @@
+package com.cafe.enums;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+@Getter
+public enum MenuSortKey {
+    ID("id"),
+    PRICE("price"),
+    NAME("name"),
+    CREATED_AT("createdAt");
+
+    final String property;
+
+    MenuSortKey(String property) {
+        this.property = property;
+    }
+
+    public static Optional<MenuSortKey> fromProperty(String property) {
+        return Arrays.stream(values())
+                     .filter(sortKey -> sortKey.property.equals(property))
+                     .findFirst();
+    }
+}
@@ -0,0 +1,19 @@
+package com.cafe.exception;
+
+import com.cafe.enums.ErrorCode;
+
+public class BadRequestException extends CustomException {
+    private static final BadRequestException STACKLESS = new BadRequestException(false);
+
+    public BadRequestException(String message, String code, int status) {
+        super(message, code, status);
+    }
+
+    private BadRequestException(boolean writableStackTrace) {
+        super(ErrorCode.BAD_REQUEST, writableStackTrace);
+    }
+
+    public static BadRequestException of() {
+        return StackTracePolicy.ENABLED ? new BadRequestException(true) : STACKLESS;
+    }
+}
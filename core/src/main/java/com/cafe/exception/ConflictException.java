@@ -0,0 +1,19 @@
+package com.cafe.exception;
+
+import com.cafe.enums.ErrorCode;
+
+public class ConflictException extends CustomException {
+    private static final ConflictException STACKLESS = new ConflictException(false);
+
+    public ConflictException(String message, String code, int status) {
+        super(message, code, status);
+    }
+
+    private ConflictException(boolean writableStackTrace) {
+        super(ErrorCode.CONFLICT, writableStackTrace);
+    }
+
+    public static ConflictException of() {
+        return StackTracePolicy.ENABLED ? new ConflictException(true) : STACKLESS;
+    }
+}
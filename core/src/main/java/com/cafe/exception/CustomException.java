@@ -1,15 +1,25 @@
 package com.cafe.exception;
 
+import com.cafe.enums.ErrorCode;
 import lombok.Getter;
 
 @Getter
 public abstract class CustomException extends RuntimeException {
     private final String code;
     private final int status;
+    private final ErrorCode errorCode;
 
     public CustomException(String message, String code, int status) {
         super(message);
         this.code = code;
         this.status = status;
+        this.errorCode = null;
+    }
+
+    protected CustomException(ErrorCode errorCode, boolean writableStackTrace) {
+        super(errorCode.getMessage(), null, false, writableStackTrace);
+        this.code = errorCode.getCode();
+        this.status = errorCode.getStatus();
+        this.errorCode = errorCode;
     }
 }
@@ -1,7 +1,19 @@
 package com.cafe.exception;
 
+import com.cafe.enums.ErrorCode;
+
 public class NotFoundException extends CustomException {
+    private static final NotFoundException STACKLESS = new NotFoundException(false);
+
     public NotFoundException(String message, String code, int status) {
         super(message, code, status);
     }
+
+    private NotFoundException(boolean writableStackTrace) {
+        super(ErrorCode.NOT_FOUND, writableStackTrace);
+    }
+
+    public static NotFoundException of() {
+        return StackTracePolicy.ENABLED ? new NotFoundException(true) : STACKLESS;
+    }
 }
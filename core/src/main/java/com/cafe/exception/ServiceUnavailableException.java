@@ -0,0 +1,19 @@
+package com.cafe.exception;
+
+import com.cafe.enums.ErrorCode;
+
+public class ServiceUnavailableException extends CustomException {
+    private static final ServiceUnavailableException STACKLESS = new ServiceUnavailableException(false);
+
+    public ServiceUnavailableException(String message, String code, int status) {
+        super(message, code, status);
+    }
+
+    private ServiceUnavailableException(boolean writableStackTrace) {
+        super(ErrorCode.SERVICE_UNAVAILABLE, writableStackTrace);
+    }
+
+    public static ServiceUnavailableException of() {
+        return StackTracePolicy.ENABLED ? new ServiceUnavailableException(true) : STACKLESS;
+    }
+}
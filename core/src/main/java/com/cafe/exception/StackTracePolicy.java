@@ -0,0 +1,8 @@
+package com.cafe.exception;
+
+final class StackTracePolicy {
+    static final boolean ENABLED = Boolean.getBoolean("cafe.exception.stack-trace-enabled");
+
+    private StackTracePolicy() {
+    }
+}
@@ -0,0 +1,19 @@
+package com.cafe.exception;
+
+import com.cafe.enums.ErrorCode;
+
+public class TooManyRequestsException extends CustomException {
+    private static final TooManyRequestsException STACKLESS = new TooManyRequestsException(false);
+
+    public TooManyRequestsException(String message, String code, int status) {
+        super(message, code, status);
+    }
+
+    private TooManyRequestsException(boolean writableStackTrace) {
+        super(ErrorCode.TOO_MANY_REQUESTS, writableStackTrace);
+    }
+
+    public static TooManyRequestsException of() {
+        return StackTracePolicy.ENABLED ? new TooManyRequestsException(true) : STACKLESS;
+    }
+}
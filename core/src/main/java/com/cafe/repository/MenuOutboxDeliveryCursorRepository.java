@@ -0,0 +1,7 @@
+package com.cafe.repository;
+
+import com.cafe.domain.outbox.MenuOutboxDeliveryCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MenuOutboxDeliveryCursorRepository extends JpaRepository<MenuOutboxDeliveryCursor, String> {
+}
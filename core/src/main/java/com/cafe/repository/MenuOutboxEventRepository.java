@@ -0,0 +1,28 @@
+package com.cafe.repository;
+
+import com.cafe.domain.outbox.MenuOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MenuOutboxEventRepository extends JpaRepository<MenuOutboxEvent, Long> {
+    @Query("select e from MenuOutboxEvent e where e.publishedAt is null order by e.id")
+    List<MenuOutboxEvent> findUnpublished(Pageable pageable);
+
+    @Query("select e from MenuOutboxEvent e where e.relaySequence > :lastSequence order by e.relaySequence")
+    List<MenuOutboxEvent> findPublishedAfter(@Param("lastSequence") Long lastSequence, Pageable pageable);
+
+    @Query("select e from MenuOutboxEvent e where e.relaySequence > :lastSequence and e.relaySequence <= :upToSequence order by e.relaySequence")
+    List<MenuOutboxEvent> findPublishedBetween(@Param("lastSequence") Long lastSequence,
+                                               @Param("upToSequence") Long upToSequence,
+                                               Pageable pageable);
+
+    @Modifying
+    @Query("delete from MenuOutboxEvent e where e.publishedAt < :publishedBefore")
+    int deletePublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore);
+}
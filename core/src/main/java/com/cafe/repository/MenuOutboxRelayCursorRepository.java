@@ -0,0 +1,19 @@
+package com.cafe.repository;
+
+import com.cafe.domain.outbox.MenuOutboxRelayCursor;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface MenuOutboxRelayCursorRepository extends JpaRepository<MenuOutboxRelayCursor, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select c from MenuOutboxRelayCursor c where c.id = :id")
+    Optional<MenuOutboxRelayCursor> findForUpdate(@Param("id") Long id);
+}
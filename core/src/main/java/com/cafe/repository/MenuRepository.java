@@ -1,7 +1,44 @@
 package com.cafe.repository;
 
 import com.cafe.domain.menu.Menu;
+import com.cafe.repository.projection.MenuSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface MenuRepository extends JpaRepository<Menu, Long> {
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface MenuRepository extends JpaRepository<Menu, Long>, MenuRepositoryCustom {
+    List<Menu> findAllByNameIn(Collection<String> names);
+
+    @Query("select new com.cafe.repository.projection.MenuSummary(m.id, m.name, m.price, m.version, m.updatedAt, m.createdAt) from Menu m where m.id > :cursor order by m.id")
+    List<MenuSummary> findSummariesAfter(@Param("cursor") Long cursor, Pageable pageable);
+
+    @Modifying
+    @Query("update Menu m set m.name = :name, m.price = :price, m.version = m.version + 1, m.updatedAt = :updatedAt where m.id = :id")
+    int updateMenu(@Param("id") Long id, @Param("name") String name, @Param("price") Integer price,
+                   @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("update Menu m set m.name = :name, m.price = :price, m.version = m.version + 1, m.updatedAt = :updatedAt where m.id = :id and m.version = :version")
+    int updateMenuIfVersionMatches(@Param("id") Long id, @Param("version") Long version, @Param("name") String name,
+                                   @Param("price") Integer price, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("delete from Menu m where m.id = :id")
+    int deleteMenuById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m.id from Menu m where m.id in :ids")
+    List<Long> findIdsForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Menu m where m.id in :ids")
+    int deleteMenusByIds(@Param("ids") Collection<Long> ids);
 }
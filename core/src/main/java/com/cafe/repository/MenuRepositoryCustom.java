@@ -0,0 +1,10 @@
+package com.cafe.repository;
+
+import com.cafe.repository.condition.MenuListCondition;
+import com.cafe.repository.projection.MenuSummary;
+
+import java.util.List;
+
+public interface MenuRepositoryCustom {
+    List<MenuSummary> findSummaries(MenuListCondition condition, int limit);
+}
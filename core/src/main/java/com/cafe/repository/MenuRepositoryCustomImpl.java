@@ -0,0 +1,97 @@
+package com.cafe.repository;
+
+import com.cafe.enums.MenuSortKey;
+import com.cafe.repository.condition.MenuListCondition;
+import com.cafe.repository.projection.MenuSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class MenuRepositoryCustomImpl implements MenuRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<MenuSummary> findSummaries(MenuListCondition condition, int limit) {
+        var property = "m." + condition.sortKey().getProperty();
+        var after = condition.descending() ? " < " : " > ";
+        var direction = condition.descending() ? " desc" : " asc";
+        var predicates = new ArrayList<String>();
+
+        if (condition.minPrice() != null) {
+            predicates.add("m.price >= :minPrice");
+        }
+        if (condition.maxPrice() != null) {
+            predicates.add("m.price <= :maxPrice");
+        }
+        if (condition.lastId() != null) {
+            predicates.add(keysetPredicate(condition, property, after));
+        }
+
+        var jpql = new StringBuilder("select new com.cafe.repository.projection.MenuSummary(m.id, m.name, m.price, m.version, m.updatedAt, m.createdAt) from Menu m");
+        if (!predicates.isEmpty()) {
+            jpql.append(" where ").append(String.join(" and ", predicates));
+        }
+        jpql.append(" order by ").append(property).append(direction);
+        if (mayReturnNulls(condition)) {
+            jpql.append(condition.descending() ? " nulls first" : " nulls last");
+        }
+        if (!isUnique(condition.sortKey())) {
+            jpql.append(", m.id").append(direction);
+        }
+
+        var query = entityManager.createQuery(jpql.toString(), MenuSummary.class)
+                                 .setMaxResults(limit);
+        if (condition.minPrice() != null) {
+            query.setParameter("minPrice", condition.minPrice());
+        }
+        if (condition.maxPrice() != null) {
+            query.setParameter("maxPrice", condition.maxPrice());
+        }
+        if (condition.lastId() != null) {
+            if (condition.sortKey() != MenuSortKey.NAME) {
+                query.setParameter("lastId", condition.lastId());
+            }
+            if (condition.sortKey() != MenuSortKey.ID && condition.lastValue() != null) {
+                query.setParameter("lastValue", condition.lastValue());
+            }
+        }
+
+        return query.getResultList();
+    }
+
+    private static String keysetPredicate(MenuListCondition condition, String property, String after) {
+        var sortKey = condition.sortKey();
+        if (sortKey == MenuSortKey.ID) {
+            return "m.id" + after + ":lastId";
+        }
+        if (sortKey == MenuSortKey.NAME) {
+            return property + after + ":lastValue";
+        }
+        if (!isNullable(sortKey)) {
+            return property + after.trim() + "= :lastValue and (" + property + after + ":lastValue or m.id" + after + ":lastId)";
+        }
+
+        if (condition.lastValue() == null) {
+            var remainingNulls = "(" + property + " is null and m.id" + after + ":lastId)";
+            return condition.descending() ? "(" + remainingNulls + " or " + property + " is not null)" : remainingNulls;
+        }
+
+        var remainingValues = "(" + property + after.trim() + "= :lastValue and (" + property + after + ":lastValue or m.id" + after + ":lastId))";
+        return condition.descending() ? remainingValues : "(" + remainingValues + " or " + property + " is null)";
+    }
+
+    private static boolean mayReturnNulls(MenuListCondition condition) {
+        return isNullable(condition.sortKey()) && condition.minPrice() == null && condition.maxPrice() == null;
+    }
+
+    private static boolean isNullable(MenuSortKey sortKey) {
+        return sortKey == MenuSortKey.PRICE;
+    }
+
+    private static boolean isUnique(MenuSortKey sortKey) {
+        return sortKey == MenuSortKey.ID || sortKey == MenuSortKey.NAME;
+    }
+}
@@ -0,0 +1,7 @@
+package com.cafe.repository.condition;
+
+import com.cafe.enums.MenuSortKey;
+
+public record MenuListCondition(Integer minPrice, Integer maxPrice, MenuSortKey sortKey, boolean descending,
+                                Object lastValue, Long lastId) {
+}
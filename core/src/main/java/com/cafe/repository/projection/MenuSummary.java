@@ -0,0 +1,7 @@
+package com.cafe.repository.projection;
+
+import java.time.LocalDateTime;
+
+public record MenuSummary(Long id, String name, Integer price, Long version, LocalDateTime updatedAt,
+                          LocalDateTime createdAt) {
+}
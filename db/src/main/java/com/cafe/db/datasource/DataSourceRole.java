@@ -0,0 +1,5 @@
+package com.cafe.db.datasource;
+
+public enum DataSourceRole {
+    PRIMARY, REPLICA
+}
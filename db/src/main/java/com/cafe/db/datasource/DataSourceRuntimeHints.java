@@ -0,0 +1,22 @@
+package com.cafe.db.datasource;
+
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+public class DataSourceRuntimeHints implements RuntimeHintsRegistrar {
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.proxies()
+             .registerJdkProxy(Connection.class)
+             .registerJdkProxy(Statement.class)
+             .registerJdkProxy(PreparedStatement.class)
+             .registerJdkProxy(CallableStatement.class);
+        hints.resources()
+             .registerPattern("db/migration/*/*.sql");
+    }
+}
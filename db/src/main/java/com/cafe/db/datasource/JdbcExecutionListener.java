@@ -0,0 +1,6 @@
+package com.cafe.db.datasource;
+
+@FunctionalInterface
+public interface JdbcExecutionListener {
+    void afterExecute(long elapsedNanos);
+}
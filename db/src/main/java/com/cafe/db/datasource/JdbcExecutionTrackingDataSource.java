@@ -0,0 +1,70 @@
+package com.cafe.db.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class JdbcExecutionTrackingDataSource extends DelegatingDataSource {
+    private final JdbcExecutionListener listener;
+
+    public JdbcExecutionTrackingDataSource(DataSource targetDataSource, JdbcExecutionListener listener) {
+        super(targetDataSource);
+        this.listener = listener;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return JdbcProxies.proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return JdbcProxies.proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            var result = JdbcProxies.invoke(proxy, target, method, args);
+
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return JdbcProxies.proxy(method.getReturnType(), new StatementHandler(statement));
+            }
+
+            return result;
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+        private final Statement target;
+
+        private StatementHandler(Statement target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return JdbcProxies.invoke(proxy, target, method, args);
+            }
+
+            var startedAt = System.nanoTime();
+            try {
+                return JdbcProxies.invoke(proxy, target, method, args);
+            } finally {
+                listener.afterExecute(System.nanoTime() - startedAt);
+            }
+        }
+    }
+}
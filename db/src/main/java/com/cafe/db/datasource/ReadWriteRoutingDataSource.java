@@ -0,0 +1,58 @@
+package com.cafe.db.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    private final long readYourWritesWindowMillis;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration readYourWritesWindow,
+                                      ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesWindowMillis = readYourWritesWindow.toMillis();
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected DataSourceRole determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                recordWrite();
+            }
+
+            return DataSourceRole.PRIMARY;
+        }
+
+        if (System.currentTimeMillis() - readYourWritesTracker.lastWriteMillis() < readYourWritesWindowMillis) {
+            return DataSourceRole.PRIMARY;
+        }
+
+        return DataSourceRole.REPLICA;
+    }
+
+    private void recordWrite() {
+        if (readYourWritesWindowMillis <= 0) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            readYourWritesTracker.recordWrite(System.currentTimeMillis());
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                readYourWritesTracker.recordWrite(System.currentTimeMillis());
+            }
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package com.cafe.db.datasource;
+
+public interface ReadYourWritesTracker {
+    ReadYourWritesTracker NONE = new ReadYourWritesTracker() {
+        @Override
+        public long lastWriteMillis() {
+            return 0L;
+        }
+
+        @Override
+        public void recordWrite(long writeMillis) {
+        }
+    };
+
+    long lastWriteMillis();
+
+    void recordWrite(long writeMillis);
+}
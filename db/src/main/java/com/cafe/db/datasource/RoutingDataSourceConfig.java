@@ -0,0 +1,46 @@
+package com.cafe.db.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "cafe.datasource.routing", name = "enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                         .type(HikariDataSource.class)
+                         .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("cafe.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 RoutingDataSourceProperties properties,
+                                 ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        var routingDataSource = new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, properties.readYourWritesWindow(),
+                                                               readYourWritesTracker.getIfAvailable(() -> ReadYourWritesTracker.NONE));
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,11 @@
+package com.cafe.db.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("cafe.datasource.routing")
+public record RoutingDataSourceProperties(@DefaultValue("false") boolean enabled,
+                                          @DefaultValue("1s") Duration readYourWritesWindow) {
+}
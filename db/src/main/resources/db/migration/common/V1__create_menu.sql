@@ -0,0 +1,12 @@
+create sequence menu_seq start with 1 increment by 50;
+
+create table menu (
+    id         bigint not null,
+    name       varchar(255),
+    price      integer,
+    version    bigint,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id),
+    constraint uk_menu_name unique (name)
+);
@@ -0,0 +1,11 @@
+create sequence menu_outbox_event_seq start with 1 increment by 50;
+
+create table menu_outbox_event (
+    id           bigint      not null,
+    menu_id      bigint      not null,
+    type         varchar(16) not null,
+    occurred_at  timestamp(6) not null,
+    published_at timestamp(6),
+    primary key (id),
+    constraint ck_menu_outbox_event_type check (type in ('CREATED', 'UPDATED', 'DELETED'))
+);
@@ -0,0 +1,14 @@
+alter table menu_outbox_event add column relay_sequence bigint;
+
+update menu_outbox_event set relay_sequence = id where published_at is not null;
+
+create unique index idx_menu_outbox_event_relay_sequence on menu_outbox_event (relay_sequence);
+
+create table menu_outbox_relay_cursor (
+    id            bigint not null,
+    last_sequence bigint not null,
+    primary key (id)
+);
+
+insert into menu_outbox_relay_cursor (id, last_sequence)
+select 1, coalesce(max(relay_sequence), 0) from menu_outbox_event;
@@ -0,0 +1,11 @@
+create table menu_outbox_delivery_cursor (
+    publisher     varchar(64) not null,
+    last_sequence bigint      not null,
+    primary key (publisher)
+);
+
+insert into menu_outbox_delivery_cursor (publisher, last_sequence)
+select 'sse', last_sequence from menu_outbox_relay_cursor;
+
+insert into menu_outbox_delivery_cursor (publisher, last_sequence)
+select 'search-index', last_sequence from menu_outbox_relay_cursor;
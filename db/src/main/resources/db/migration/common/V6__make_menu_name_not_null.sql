@@ -0,0 +1,3 @@
+update menu set name = concat('menu-', id) where name is null;
+
+alter table menu alter column name set not null;
@@ -0,0 +1,5 @@
+create index idx_menu_price_id on menu (price, id);
+
+create index idx_menu_created_at_id on menu (created_at, id);
+
+create index idx_menu_outbox_event_published_at on menu_outbox_event (published_at);
@@ -0,0 +1,7 @@
+create index idx_menu_price_id on menu (price, id) include (name, version, updated_at, created_at);
+
+create index idx_menu_created_at_id on menu (created_at, id) include (name, price, version, updated_at);
+
+create index idx_menu_outbox_event_unpublished on menu_outbox_event (id) where published_at is null;
+
+create index idx_menu_outbox_event_published_at on menu_outbox_event (published_at) where published_at is not null;
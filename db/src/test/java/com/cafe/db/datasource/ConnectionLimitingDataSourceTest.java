@@ -0,0 +1,45 @@
+package com.cafe.db.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConnectionLimitingDataSourceTest {
+    private final ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:limit;DB_CLOSE_DELAY=-1", "sa", ""), 1, Duration.ofMillis(50));
+
+    @Test
+    @DisplayName("커넥션을 닫으면 허용량을 반납한다")
+    void releasePermitWhenConnectionClosed() throws Exception {
+        // given
+        var connection = dataSource.getConnection();
+        assertThat(dataSource.getAvailablePermits()).isZero();
+
+        // when
+        connection.close();
+        connection.close();
+
+        // then
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("허용량을 모두 사용하면 커넥션을 기다리다 실패한다")
+    void failWhenNoPermitAvailable() throws Exception {
+        // given
+        try (var held = dataSource.getConnection()) {
+            // when & then
+            assertThatThrownBy(dataSource::getConnection)
+                    .isInstanceOf(SQLTransientConnectionException.class);
+            assertThat(held.isClosed()).isFalse();
+        }
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,37 @@
+package com.cafe.db.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataSourceRuntimeHintsTest {
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    @DisplayName("커넥션과 구문 프록시를 네이티브 이미지 힌트로 등록한다")
+    void registerJdbcProxies() {
+        // when
+        new DataSourceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // then
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(PreparedStatement.class)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("벤더별 마이그레이션 스크립트를 리소스 힌트로 등록한다")
+    void registerMigrationScripts() {
+        // when
+        new DataSourceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // then
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/common/V1__create_menu.sql")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/postgresql/V3__create_menu_indexes.sql")).accepts(hints);
+    }
+}
@@ -0,0 +1,61 @@
+package com.cafe.db.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcExecutionTrackingDataSourceTest {
+    private final List<Long> executions = new ArrayList<>();
+    private final JdbcExecutionTrackingDataSource dataSource = new JdbcExecutionTrackingDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:tracking;DB_CLOSE_DELAY=-1", "sa", ""), executions::add);
+
+    @Test
+    @DisplayName("구문을 실행할 때마다 실행 시간을 알린다")
+    void notifyEachExecution() throws Exception {
+        // given
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement("select ?")) {
+            // when
+            statement.setInt(1, 1);
+            statement.executeQuery().close();
+            try (var plainStatement = connection.createStatement()) {
+                plainStatement.execute("select 1");
+            }
+
+            // then
+            assertThat(statement).isInstanceOf(PreparedStatement.class);
+        }
+
+        assertThat(executions).hasSize(2)
+                              .allMatch(elapsedNanos -> elapsedNanos >= 0);
+    }
+
+    @Test
+    @DisplayName("실행이 아닌 호출은 알리지 않는다")
+    void notNotifyNonExecution() throws Exception {
+        // when
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement("select ?")) {
+            statement.setInt(1, 1);
+            statement.getParameterMetaData();
+        }
+
+        // then
+        assertThat(executions).isEmpty();
+    }
+
+    @Test
+    @DisplayName("감싼 데이터소스로 언랩할 수 있다")
+    void unwrapTarget() throws Exception {
+        // when & then
+        assertThat(dataSource.isWrapperFor(HikariDataSource.class)).isFalse();
+        assertThat(dataSource.unwrap(JdbcExecutionTrackingDataSource.class)).isSameAs(dataSource);
+    }
+}
@@ -0,0 +1,120 @@
+package com.cafe.db.datasource;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+    private static final DataSource PRIMARY = new DriverManagerDataSource("jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1", "sa", "");
+    private static final DataSource REPLICA = new DriverManagerDataSource("jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1", "sa", "");
+
+    private final ClientReadYourWritesTracker tracker = new ClientReadYourWritesTracker();
+
+    @BeforeAll
+    static void setUp() {
+        createMarker(PRIMARY, "primary");
+        createMarker(REPLICA, "replica");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본으로 보낸다")
+    void routeReadOnlyTransactionToReplica() {
+        // given
+        var dataSource = routingDataSource(Duration.ZERO);
+
+        // when
+        var result = readMarker(dataSource, true);
+
+        // then
+        assertThat(result).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 원본으로 보낸다")
+    void routeReadWriteTransactionToPrimary() {
+        // given
+        var dataSource = routingDataSource(Duration.ZERO);
+
+        // when
+        var result = readMarker(dataSource, false);
+
+        // then
+        assertThat(result).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 직후에는 읽기 전용 트랜잭션도 원본으로 보낸다")
+    void routeReadOnlyTransactionToPrimaryAfterWrite() {
+        // given
+        var dataSource = routingDataSource(Duration.ofMinutes(1));
+        tracker.client = "A";
+        assertThat(readMarker(dataSource, true)).isEqualTo("replica");
+
+        // when
+        readMarker(dataSource, false);
+        var result = readMarker(dataSource, true);
+
+        // then
+        assertThat(result).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("다른 클라이언트의 쓰기는 읽기 전용 트랜잭션을 원본으로 보내지 않는다")
+    void routeOtherClientReadOnlyTransactionToReplicaAfterWrite() {
+        // given
+        var dataSource = routingDataSource(Duration.ofMinutes(1));
+        tracker.client = "A";
+        readMarker(dataSource, false);
+
+        // when
+        tracker.client = "B";
+        var result = readMarker(dataSource, true);
+
+        // then
+        assertThat(result).isEqualTo("replica");
+    }
+
+    private DataSource routingDataSource(Duration readYourWritesWindow) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(PRIMARY, REPLICA, readYourWritesWindow, tracker));
+    }
+
+    private static String readMarker(DataSource dataSource, boolean readOnly) {
+        var transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status -> new JdbcTemplate(dataSource).queryForObject("select name from marker", String.class));
+    }
+
+    private static void createMarker(DataSource dataSource, String name) {
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table marker (name varchar(20))");
+        jdbcTemplate.update("insert into marker values (?)", name);
+    }
+
+    private static class ClientReadYourWritesTracker implements ReadYourWritesTracker {
+        private final Map<String, Long> lastWrites = new HashMap<>();
+        private String client;
+
+        @Override
+        public long lastWriteMillis() {
+            return lastWrites.getOrDefault(client, 0L);
+        }
+
+        @Override
+        public void recordWrite(long writeMillis) {
+            lastWrites.put(client, writeMillis);
+        }
+    }
+}